@@ -0,0 +1,44 @@
+package back.service.board;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import back.model.board.Board;
+
+/**
+ * BoardServiceImpl.getBoardList 페이징 계산 (전체 페이지 수, ROWNUM 범위)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardPagingBenchmark {
+
+    @Param({ "1", "500" })
+    public int page;
+
+    @Param({ "100000" })
+    public int totalCount;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = new Board();
+        board.setPage(page);
+        board.setSize(15);
+    }
+
+    @Benchmark
+    public Board applyPaging() {
+        BoardServiceImpl.applyPaging(board, totalCount);
+        return board;
+    }
+}
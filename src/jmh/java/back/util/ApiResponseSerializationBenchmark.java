@@ -0,0 +1,100 @@
+package back.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.model.board.Board;
+import back.model.board.Comment;
+import back.model.common.PostFile;
+
+/**
+ * 게시글 상세 응답(ApiResponse<Board>, 댓글 트리 + 첨부파일) Jackson 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    /** 최상위 댓글 수 (각각 답글 3개) */
+    @Param({ "10", "100" })
+    public int rootComments;
+
+    @Param({ "0", "5" })
+    public int files;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ApiResponse<Board> response;
+
+    @Setup
+    public void setUp() {
+        Board board = new Board();
+        board.setBoardId("1024");
+        board.setTitle("성능 측정용 게시글 제목");
+        board.setContent("<p>" + "본문 내용입니다. ".repeat(100) + "</p>");
+        board.setViewCount("1234");
+        board.setCreateId("user01");
+        board.setCreateDt("2025-01-01");
+
+        List<PostFile> postFiles = new ArrayList<>();
+        for (int i = 0; i < files; i++) {
+            PostFile file = new PostFile();
+            file.setFileId(i + 1);
+            file.setBoardId(1024);
+            file.setFileName("첨부파일_" + i + ".png");
+            file.setFilePath("/uploads/board/2025-01-01/20250101_000000000_" + i + ".png");
+            file.setDelYn("N");
+            postFiles.add(file);
+        }
+        board.setPostFiles(postFiles);
+
+        List<Comment> comments = new ArrayList<>();
+        int commentId = 1;
+        for (int i = 0; i < rootComments; i++) {
+            Comment root = comment(commentId++, null, null);
+            List<Comment> replies = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                Comment reply = comment(commentId++, root.getCommentId(), root.getCommentId());
+                reply.setReplies(new ArrayList<>());
+                replies.add(reply);
+            }
+            root.setReplies(replies);
+            root.setReplyCount(replies.size());
+            comments.add(root);
+        }
+        board.setComments(comments);
+
+        response = new ApiResponse<>(true, "조회 성공", board);
+    }
+
+    private Comment comment(int commentId, Integer parentCommentId, Integer rootCommentId) {
+        Comment comment = new Comment();
+        comment.setCommentId(commentId);
+        comment.setBoardId(1024);
+        comment.setParentCommentId(parentCommentId);
+        comment.setRootCommentId(rootCommentId);
+        comment.setContent("댓글 내용 " + commentId);
+        comment.setDelYn("N");
+        comment.setCreateId("user" + (commentId % 10));
+        comment.setCreateDt("2025-01-01");
+        return comment;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
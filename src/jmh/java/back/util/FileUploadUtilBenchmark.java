@@ -0,0 +1,139 @@
+package back.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.multipart.MultipartFile;
+
+import back.model.common.PostFile;
+
+/**
+ * FileUploadUtil.uploadFiles 비용
+ *
+ * - 파일명 치환 정규식 (호출마다 Pattern 컴파일)
+ * - uploadFiles 전체 : 호출마다 SimpleDateFormat 생성, 저장 파일명 구성, transferTo 디스크 쓰기 (크기별)
+ *   업로드 경로만 임시 폴더로 바꿔 uploadFilesTo 를 호출하고, 쓴 파일은 호출마다 지운다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FileUploadUtilBenchmark {
+
+    @Param({ "report_2024 final(1).pdf", "첨부 이미지 사진_최종본.jpeg" })
+    public String fileName;
+
+    @Param({ "4096", "1048576" })
+    public int fileSize;
+
+    private List<MultipartFile> multipartFiles;
+    private Path tmpDir;
+    private String uploadPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        byte[] content = new byte[fileSize];
+        ThreadLocalRandom.current().nextBytes(content);
+        multipartFiles = List.of(new BytesMultipartFile(fileName, content));
+        tmpDir = Files.createTempDirectory("jmh-upload");
+        uploadPath = tmpDir.resolve("img").resolve("2024-01-01").toString();
+    }
+
+    /**
+     * 호출마다 새 이름으로 쓰이므로 디스크가 차지 않게 지운다
+     */
+    @TearDown(Level.Invocation)
+    public void deleteUploaded() throws IOException {
+        try (Stream<Path> paths = Files.list(Path.of(uploadPath))) {
+            paths.forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public String sanitizeFileName() {
+        return FileUploadUtil.sanitizeFileName(fileName);
+    }
+
+    @Benchmark
+    public List<PostFile> uploadFiles() throws IOException {
+        return FileUploadUtil.uploadFilesTo(uploadPath, multipartFiles, 1, "bench");
+    }
+
+    /**
+     * 메모리 바이트 배열 기반 MultipartFile (transferTo 는 메모리에 받은 업로드처럼 바이트를 그대로 쓴다)
+     */
+    static class BytesMultipartFile implements MultipartFile {
+        private final String originalFilename;
+        private final byte[] content;
+
+        BytesMultipartFile(String originalFilename, byte[] content) {
+            this.originalFilename = originalFilename;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
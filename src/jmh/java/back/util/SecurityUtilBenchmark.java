@@ -0,0 +1,55 @@
+package back.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import back.exception.HException;
+import back.model.common.CustomUserDetails;
+import back.model.user.User;
+
+/**
+ * SecurityUtil.checkAuthorization 비용 (통과 / 권한 없음 예외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityUtilBenchmark {
+
+    private CustomUserDetails userDetails;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setUserId("user01");
+        userDetails = new CustomUserDetails(user);
+    }
+
+    @Benchmark
+    public CustomUserDetails loggedIn() {
+        SecurityUtil.checkAuthorization(userDetails);
+        return userDetails;
+    }
+
+    @Benchmark
+    public CustomUserDetails owner() {
+        SecurityUtil.checkAuthorization(userDetails, "user01");
+        return userDetails;
+    }
+
+    @Benchmark
+    public HException forbidden() {
+        try {
+            SecurityUtil.checkAuthorization(userDetails, "user02");
+            return null;
+        } catch (HException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package back.loadtest;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.imageio.ImageIO;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import back.RenewBackApplication;
+
+/**
+ * 엔드포인트별 부하 테스트 드라이버
+ *
+ * - loadtest 프로필(H2 인메모리, Oracle 호환 모드)로 애플리케이션을 같은 JVM 에서 기동한다.
+ * - 사용자 등록, 이미지 첨부 게시글 1건을 준비한 뒤 가중치(mix)에 따라 엔드포인트를 섞어 호출한다.
+ * - 클라이언트는 응답을 받은 뒤 바로 다음 요청을 보내는 닫힌 모델이며, 지연은 엔드포인트별 HdrHistogram 에 기록한다.
+ * - 결과 : summary.csv (처리량, p50/p90/p99/p99.9/최대, 오류 수), {엔드포인트}.hgrm (백분위 분포), latency.hlog (1초 간격 기록)
+ */
+public class LoadTestHarness {
+
+    private static final Pattern BOARD_ID = Pattern.compile("\"boardId\"\\s*:\\s*\"?(\\d+)");
+    private static final Pattern FILE_ID = Pattern.compile("\"fileId\"\\s*:\\s*(\\d+)");
+
+    private static final String USER_ID = "loadtest";
+    private static final String PASSWORD = "loadtest1234";
+
+    /** data.sql 로 넣은 게시글 범위 (최근 100건에 댓글 존재) */
+    private static final int SEEDED_BOARDS = 10000;
+    private static final int BOARDS_WITH_COMMENTS = 100;
+
+    /** 지연 기록 범위 : 1us ~ 60s, 유효 숫자 3자리 */
+    private static final long HIGHEST_TRACKABLE_US = TimeUnit.SECONDS.toMicros(60);
+
+    private static final String DEFAULT_MIX = "list:40,view:25,commentList:10,commentCreate:5,create:5,imgDown:15";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final String baseUrl;
+    private final String authorization;
+    private int imageFileId = -1;
+
+    private LoadTestHarness(int port) {
+        this.baseUrl = "http://localhost:" + port;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((USER_ID + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        int port = Integer.parseInt(options.getOrDefault("port", "18082"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        File reportDir = new File(options.getOrDefault("report", "build/reports/loadtest"),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+
+        SpringApplication application = new SpringApplication(RenewBackApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        ConfigurableApplicationContext context = application.run("--server.port=" + port);
+        try {
+            LoadTestHarness harness = new LoadTestHarness(port);
+            harness.prepare();
+            if (harness.imageFileId < 0 && mix.remove("imgDown") != null) {
+                System.out.println("이미지 첨부 준비 실패 - imgDown 제외 (업로드 경로 쓰기 권한 확인)");
+            }
+
+            System.out.printf("워밍업 %ds ...%n", warmup);
+            harness.run(concurrency, warmup, mix, null);
+            System.out.printf("측정 %ds (동시 %d, mix %s) ...%n", duration, concurrency, mix);
+            reportDir.mkdirs();
+            Map<String, Stats> results = harness.run(concurrency, duration, mix, new File(reportDir, "latency.hlog"));
+            report(results, duration, reportDir);
+            System.out.println("결과 저장 : " + reportDir.getAbsolutePath());
+        } finally {
+            SpringApplication.exit(context);
+        }
+    }
+
+    /**
+     * 사용자 등록, 이미지 첨부 게시글 등록 후 첨부파일 ID 확보
+     */
+    private void prepare() throws Exception {
+        send(json("/api/user/register.do", "{\"userId\":\"" + USER_ID + "\",\"password\":\"" + PASSWORD
+                + "\",\"email\":\"loadtest@example.com\",\"birthdate\":\"1990-01-01\",\"gender\":\"M\"}", false));
+
+        Multipart body = new Multipart()
+                .field("title", "부하 테스트 이미지 게시글")
+                .field("content", "<p>imgDown.do 측정용</p>")
+                .file("files", "loadtest.png", "image/png", sampleImage());
+        HttpResponse<String> created = send(body.request(baseUrl + "/api/board/create.do", authorization));
+        if (created.statusCode() != 200) {
+            return;
+        }
+
+        HttpResponse<String> list = send(json("/api/board/list.do", "{\"page\":1,\"size\":1}", true));
+        Matcher boardId = BOARD_ID.matcher(list.body());
+        if (!boardId.find()) {
+            return;
+        }
+        HttpResponse<String> view = send(json("/api/board/view.do", "{\"boardId\":\"" + boardId.group(1) + "\"}", true));
+        Matcher fileId = FILE_ID.matcher(view.body());
+        if (fileId.find()) {
+            imageFileId = Integer.parseInt(fileId.group(1));
+        }
+    }
+
+    /**
+     * 가중치에 따라 엔드포인트를 골라 호출 (logFile 이 있으면 1초 간격 히스토그램 기록)
+     */
+    private Map<String, Stats> run(int concurrency, int seconds, Map<String, Integer> mix, File logFile)
+            throws Exception {
+        Map<String, Stats> stats = new LinkedHashMap<>();
+        for (String endpoint : mix.keySet()) {
+            stats.put(endpoint, new Stats());
+        }
+        String[] wheel = buildWheel(mix);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> clients = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            clients.add(Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    String endpoint = wheel[random.nextInt(wheel.length)];
+                    Stats target = stats.get(endpoint);
+                    long started = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = call(endpoint, random);
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    target.recorder.recordValue(
+                            Math.min((System.nanoTime() - started) / 1000, HIGHEST_TRACKABLE_US));
+                    if (!ok) {
+                        target.errors.increment();
+                    }
+                }
+            }));
+        }
+
+        HistogramLogWriter logWriter = null;
+        if (logFile != null) {
+            logWriter = new HistogramLogWriter(new PrintStream(new FileOutputStream(logFile), false, StandardCharsets.UTF_8));
+            logWriter.outputLogFormatVersion();
+            logWriter.outputStartTime(System.currentTimeMillis());
+            logWriter.outputLegend();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(Math.min(1000, Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()))));
+            collect(stats, logWriter);
+        }
+        running.set(false);
+        for (Thread client : clients) {
+            client.join();
+        }
+        collect(stats, logWriter);
+        if (logWriter != null) {
+            logWriter.close();
+        }
+        return stats;
+    }
+
+    private void collect(Map<String, Stats> stats, HistogramLogWriter logWriter) {
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats value = entry.getValue();
+            Histogram interval = value.recorder.getIntervalHistogram();
+            value.total.add(interval);
+            if (logWriter != null && interval.getTotalCount() > 0) {
+                interval.setTag(entry.getKey());
+                logWriter.outputIntervalHistogram(interval);
+            }
+        }
+    }
+
+    private boolean call(String endpoint, ThreadLocalRandom random) throws IOException, InterruptedException {
+        int boardId = SEEDED_BOARDS - random.nextInt(BOARDS_WITH_COMMENTS);
+        HttpRequest request = switch (endpoint) {
+            case "list" -> json("/api/board/list.do", "{\"page\":" + (1 + random.nextInt(20)) + ",\"size\":15}", true);
+            case "view" -> json("/api/board/view.do",
+                    "{\"boardId\":\"" + (1 + random.nextInt(SEEDED_BOARDS)) + "\"}", true);
+            case "commentList" -> json("/api/board/comment/list.do", "{\"boardId\":" + boardId + "}", true);
+            case "commentCreate" -> json("/api/board/comment/create.do",
+                    "{\"boardId\":" + boardId + ",\"content\":\"부하 테스트 댓글 " + UUID.randomUUID() + "\"}", true);
+            case "create" -> new Multipart()
+                    .field("title", "부하 테스트 등록 " + random.nextInt(1_000_000))
+                    .field("content", "<p>부하 테스트 등록 본문</p>")
+                    .request(baseUrl + "/api/board/create.do", authorization);
+            case "imgDown" -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/file/imgDown.do?fileId=" + imageFileId
+                    + (random.nextBoolean() ? "&size=160" : "")))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            default -> throw new IllegalArgumentException("알 수 없는 엔드포인트 : " + endpoint);
+        };
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest json(String path, String body, boolean authenticated) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (authenticated) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    private static void report(Map<String, Stats> results, int seconds, File reportDir) throws IOException {
+        System.out.println();
+        System.out.printf("%-14s %9s %9s %9s %9s %9s %9s %9s %7s%n", "endpoint", "requests", "req/s", "p50(ms)",
+                "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "errors");
+        try (PrintWriter csv = new PrintWriter(new File(reportDir, "summary.csv"), StandardCharsets.UTF_8)) {
+            csv.println("endpoint,requests,throughput,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,errors");
+            for (Map.Entry<String, Stats> entry : results.entrySet()) {
+                Histogram histogram = entry.getValue().total;
+                long count = histogram.getTotalCount();
+                double throughput = (double) count / seconds;
+                double p50 = percentileMs(histogram, 50);
+                double p90 = percentileMs(histogram, 90);
+                double p99 = percentileMs(histogram, 99);
+                double p999 = percentileMs(histogram, 99.9);
+                double max = histogram.getMaxValue() / 1000d;
+                long errors = entry.getValue().errors.sum();
+
+                System.out.printf("%-14s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n", entry.getKey(), count,
+                        throughput, p50, p90, p99, p999, max, errors);
+                csv.printf("%s,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%d%n", entry.getKey(), count, throughput, p50, p90,
+                        p99, p999, max, errors);
+
+                try (PrintStream hgrm = new PrintStream(new File(reportDir, entry.getKey() + ".hgrm"),
+                        StandardCharsets.UTF_8)) {
+                    histogram.outputPercentileDistribution(hgrm, 1000.0); // us -> ms
+                }
+            }
+        }
+    }
+
+    private static double percentileMs(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000d;
+    }
+
+    private static String[] buildWheel(Map<String, Integer> mix) {
+        List<String> wheel = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(endpoint);
+            }
+        });
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("mix 가 비어 있습니다.");
+        }
+        return wheel.toArray(new String[0]);
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length == 2 && Integer.parseInt(pair[1].trim()) > 0) {
+                mix.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            }
+        }
+        return mix;
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    /**
+     * imgDown.do 측정용 PNG (축소본이 만들어지도록 가장 큰 축소 폭보다 크게)
+     */
+    private static byte[] sampleImage() throws IOException {
+        BufferedImage image = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, Color.ORANGE, 1600, 1200, Color.BLUE));
+            g.fillRect(0, 0, 1600, 1200);
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static class Stats {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_US, 3);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_US, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * multipart/form-data 요청 본문 작성기
+     */
+    private static class Multipart {
+        private final String boundary = "----loadtest" + UUID.randomUUID();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        private Multipart field(String name, String value) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n");
+            return this;
+        }
+
+        private Multipart file(String name, String fileName, String contentType, byte[] content) {
+            write("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName
+                    + "\"\r\nContent-Type: " + contentType + "\r\n\r\n");
+            body.writeBytes(content);
+            write("\r\n");
+            return this;
+        }
+
+        private HttpRequest request(String url, String authorization) {
+            write("--" + boundary + "--\r\n");
+            return HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                    .header("Authorization", authorization)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                    .build();
+        }
+
+        private void write(String text) {
+            body.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
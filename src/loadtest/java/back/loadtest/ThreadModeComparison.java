@@ -0,0 +1,315 @@
+package back.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 비교 부하 측정
+ *
+ * - 같은 war 를 spring.threads.virtual.enabled=false, true 로 차례로 기동해 동일한 부하(list.do, view.do)를 준다.
+ * - 모드별 처리량(req/s), p50/p99/최대 지연, 오류 수를 나란히 출력하고 CSV 로 남긴다.
+ * - DB 설정은 애플리케이션 설정을 그대로 사용하므로 대상 DB가 떠 있어야 한다.
+ */
+public class ThreadModeComparison {
+
+    private static final Pattern BOARD_ID = Pattern.compile("\"boardId\"\\s*:\\s*\"?(\\d+)");
+
+    private static final int WARMUP_SECONDS = 10;
+    private static final int STARTUP_TIMEOUT_SECONDS = 180;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        File war = new File(require(options, "war"));
+        File report = new File(options.getOrDefault("report", "build/reports/loadtest/thread-modes.csv"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18081"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "30"));
+        String authorization = basicAuth(options.get("user"), options.get("password"));
+
+        report.getParentFile().mkdirs();
+        List<Result> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] { false, true }) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            File log = new File(report.getParentFile(), "app-" + mode + ".log");
+            Process app = startApp(war, port, virtualThreads, log);
+            try {
+                String baseUrl = "http://localhost:" + port;
+                waitForStartup(baseUrl, app);
+                Driver driver = new Driver(baseUrl, authorization);
+                List<String> boardIds = driver.fetchBoardIds();
+
+                System.out.printf("[%s] 워밍업 %ds ...%n", mode, WARMUP_SECONDS);
+                driver.run(concurrency, WARMUP_SECONDS, boardIds);
+                System.out.printf("[%s] 측정 %ds (동시 %d) ...%n", mode, duration, concurrency);
+                Map<String, long[]> latencies = driver.run(concurrency, duration, boardIds);
+                for (Map.Entry<String, long[]> entry : latencies.entrySet()) {
+                    results.add(new Result(mode, entry.getKey(), entry.getValue(), duration,
+                            driver.errors(entry.getKey())));
+                }
+            } finally {
+                stopApp(app);
+            }
+        }
+
+        print(results);
+        write(results, report);
+        System.out.println("결과 저장 : " + report.getAbsolutePath());
+    }
+
+    private static Process startApp(File war, int port, boolean virtualThreads, File log) throws IOException {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        ProcessBuilder builder = new ProcessBuilder(java, "-jar", war.getAbsolutePath(),
+                "--server.port=" + port,
+                "--spring.threads.virtual.enabled=" + virtualThreads);
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(log);
+        return builder.start();
+    }
+
+    private static void waitForStartup(String baseUrl, Process app) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS);
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("애플리케이션 기동 실패 (exit " + app.exitValue() + ")");
+            }
+            try {
+                client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/user/logout.do"))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException e) {
+                Thread.sleep(1000);
+            }
+        }
+        throw new IllegalStateException("애플리케이션 기동 대기 시간 초과");
+    }
+
+    private static void stopApp(Process app) throws InterruptedException {
+        app.destroy();
+        if (!app.waitFor(30, TimeUnit.SECONDS)) {
+            app.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void print(List<Result> results) {
+        System.out.println();
+        System.out.printf("%-9s %-10s %10s %10s %10s %10s %8s%n", "mode", "endpoint", "req/s", "p50(ms)", "p99(ms)",
+                "max(ms)", "errors");
+        for (Result result : results) {
+            System.out.printf("%-9s %-10s %10.1f %10.2f %10.2f %10.2f %8d%n", result.mode, result.endpoint,
+                    result.throughput(), result.percentileMs(50), result.percentileMs(99), result.percentileMs(100),
+                    result.errors);
+        }
+    }
+
+    private static void write(List<Result> results, File report) throws IOException {
+        try (PrintWriter out = new PrintWriter(report, StandardCharsets.UTF_8)) {
+            out.println("mode,endpoint,requests,throughput,p50_ms,p99_ms,max_ms,errors");
+            for (Result result : results) {
+                out.printf("%s,%s,%d,%.1f,%.3f,%.3f,%.3f,%d%n", result.mode, result.endpoint, result.latencies.length,
+                        result.throughput(), result.percentileMs(50), result.percentileMs(99),
+                        result.percentileMs(100), result.errors);
+            }
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int eq = arg.indexOf('=');
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static String require(Map<String, String> options, String name) {
+        String value = options.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("--" + name + " 옵션이 필요합니다.");
+        }
+        return value;
+    }
+
+    private static String basicAuth(String user, String password) {
+        if (user == null || user.isEmpty()) {
+            return null;
+        }
+        String token = user + ":" + (password != null ? password : "");
+        return "Basic " + Base64.getEncoder().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 부하 발생기 - 가상 스레드 클라이언트가 list.do / view.do 를 번갈아 호출
+     */
+    private static class Driver {
+        private final String baseUrl;
+        private final String authorization;
+        private final HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        private final Map<String, LongAdder> errors = new HashMap<>();
+
+        private Driver(String baseUrl, String authorization) {
+            this.baseUrl = baseUrl;
+            this.authorization = authorization;
+            errors.put("list.do", new LongAdder());
+            errors.put("view.do", new LongAdder());
+        }
+
+        private List<String> fetchBoardIds() throws Exception {
+            HttpResponse<String> response = client.send(request("/api/board/list.do", "{\"page\":1,\"size\":50}"),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("list.do 응답 " + response.statusCode() + " - 인증 정보를 확인하세요.");
+            }
+            List<String> ids = new ArrayList<>();
+            Matcher matcher = BOARD_ID.matcher(response.body());
+            while (matcher.find()) {
+                ids.add(matcher.group(1));
+            }
+            return ids;
+        }
+
+        private Map<String, long[]> run(int concurrency, int seconds, List<String> boardIds) throws Exception {
+            errors.values().forEach(LongAdder::reset);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+            List<Thread> threads = new ArrayList<>(concurrency);
+            List<Map<String, LongList>> perThread = new ArrayList<>(concurrency);
+
+            for (int i = 0; i < concurrency; i++) {
+                Map<String, LongList> samples = Map.of("list.do", new LongList(), "view.do", new LongList());
+                perThread.add(samples);
+                int offset = i;
+                threads.add(Thread.ofVirtual().start(() -> {
+                    long n = offset;
+                    while (System.nanoTime() < deadline) {
+                        boolean view = !boardIds.isEmpty() && (n++ & 1) == 1;
+                        String endpoint = view ? "view.do" : "list.do";
+                        HttpRequest request = view
+                                ? request("/api/board/view.do", "{\"boardId\":\""
+                                        + boardIds.get(ThreadLocalRandom.current().nextInt(boardIds.size())) + "\"}")
+                                : request("/api/board/list.do", "{\"page\":"
+                                        + (1 + ThreadLocalRandom.current().nextInt(5)) + ",\"size\":15}");
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.get(endpoint).increment();
+                            }
+                        } catch (IOException e) {
+                            errors.get(endpoint).increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        samples.get(endpoint).add(System.nanoTime() - started);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            Map<String, long[]> merged = new LinkedHashMap<>();
+            for (String endpoint : List.of("list.do", "view.do")) {
+                LongList all = new LongList();
+                for (Map<String, LongList> samples : perThread) {
+                    all.addAll(samples.get(endpoint));
+                }
+                long[] sorted = all.toArray();
+                Arrays.sort(sorted);
+                merged.put(endpoint, sorted);
+            }
+            return merged;
+        }
+
+        private long errors(String endpoint) {
+            return errors.get(endpoint).sum();
+        }
+
+        private HttpRequest request(String path, String body) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body));
+            if (authorization != null) {
+                builder.header("Authorization", authorization);
+            }
+            return builder.build();
+        }
+    }
+
+    private static class Result {
+        private final String mode;
+        private final String endpoint;
+        private final long[] latencies; // 정렬된 나노초
+        private final int seconds;
+        private final long errors;
+
+        private Result(String mode, String endpoint, long[] latencies, int seconds, long errors) {
+            this.mode = mode;
+            this.endpoint = endpoint;
+            this.latencies = latencies;
+            this.seconds = seconds;
+            this.errors = errors;
+        }
+
+        private double throughput() {
+            return (double) latencies.length / seconds;
+        }
+
+        private double percentileMs(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))] / 1_000_000d;
+        }
+    }
+
+    /**
+     * 박싱 없는 long 가변 배열
+     */
+    private static class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(LongList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+-- 부하 테스트 초기 데이터
+-- 게시글 10,000건 (최근 1년에 분산), 최근 게시글 100건에 최상위 댓글 2,000건 + 답글 2,000건
+-- 사용자는 부하 드라이버가 register.do 로 등록한다. (BCrypt 해시를 스크립트에 두지 않기 위함)
+
+INSERT INTO BOARD (BOARD_ID, TITLE, CONTENT, VIEW_COUNT, CREATE_ID, CREATE_DT, DEL_YN)
+SELECT X,
+       '부하 테스트 게시글 ' || X,
+       '<p>부하 테스트 본문 ' || X || ' - 게시판 목록과 상세 조회 응답 크기를 운영과 비슷하게 맞추기 위한 문장입니다.</p>',
+       0,
+       'loadtest',
+       SYSDATE - MOD(X, 365),
+       'N'
+  FROM SYSTEM_RANGE(1, 10000);
+
+INSERT INTO POST_COMMENT (COMMENT_ID, BOARD_ID, PARENT_COMMENT_ID, CONTENT, CREATE_ID, CREATE_DT, DEL_YN)
+SELECT X, 10000 - MOD(X, 100), NULL, '부하 테스트 댓글 ' || X, 'loadtest', SYSDATE, 'N'
+  FROM SYSTEM_RANGE(1, 2000);
+
+INSERT INTO POST_COMMENT (COMMENT_ID, BOARD_ID, PARENT_COMMENT_ID, CONTENT, CREATE_ID, CREATE_DT, DEL_YN)
+SELECT 2000 + X, 10000 - MOD(X, 100), X, '부하 테스트 답글 ' || X, 'loadtest', SYSDATE, 'N'
+  FROM SYSTEM_RANGE(1, 2000);
@@ -0,0 +1,94 @@
+-- 부하 테스트용 H2(Oracle 호환 모드) 스키마 - 운영 Oracle 테이블/시퀀스와 같은 이름과 컬럼
+
+CREATE TABLE USERS (
+    USER_ID    VARCHAR2(50)   NOT NULL,
+    ADMIN_YN   CHAR(1)        DEFAULT 'N' NOT NULL,
+    PASSWORD   VARCHAR2(100)  NOT NULL,
+    EMAIL      VARCHAR2(100),
+    BIRTHDATE  DATE,
+    GENDER     VARCHAR2(10),
+    CREATE_ID  VARCHAR2(50),
+    CREATE_DT  DATE           DEFAULT SYSDATE NOT NULL,
+    UPDATE_ID  VARCHAR2(50),
+    UPDATE_DT  DATE,
+    DEL_YN     CHAR(1)        DEFAULT 'N' NOT NULL,
+    CONSTRAINT PK_USERS PRIMARY KEY (USER_ID)
+);
+
+CREATE TABLE BOARD (
+    BOARD_ID    NUMBER(10)     NOT NULL,
+    TITLE       VARCHAR2(200)  NOT NULL,
+    CONTENT     CLOB,
+    VIEW_COUNT  NUMBER(10)     DEFAULT 0,
+    CREATE_ID   VARCHAR2(50),
+    CREATE_DT   DATE           DEFAULT SYSDATE NOT NULL,
+    UPDATE_ID   VARCHAR2(50),
+    UPDATE_DT   DATE,
+    DEL_YN      CHAR(1)        DEFAULT 'N' NOT NULL,
+    CONSTRAINT PK_BOARD PRIMARY KEY (BOARD_ID)
+);
+
+CREATE TABLE POST_COMMENT (
+    COMMENT_ID         NUMBER(10)      NOT NULL,
+    BOARD_ID           NUMBER(10)      NOT NULL,
+    PARENT_COMMENT_ID  NUMBER(10),
+    CONTENT            VARCHAR2(4000)  NOT NULL,
+    CREATE_ID          VARCHAR2(50),
+    CREATE_DT          DATE            DEFAULT SYSDATE NOT NULL,
+    UPDATE_ID          VARCHAR2(50),
+    UPDATE_DT          DATE,
+    DEL_YN             CHAR(1)         DEFAULT 'N' NOT NULL,
+    CONSTRAINT PK_POST_COMMENT PRIMARY KEY (COMMENT_ID)
+);
+
+CREATE INDEX IDX_POST_COMMENT_BOARD ON POST_COMMENT (BOARD_ID, COMMENT_ID);
+CREATE INDEX IDX_POST_COMMENT_PARENT ON POST_COMMENT (PARENT_COMMENT_ID);
+
+CREATE TABLE POST_FILE (
+    FILE_ID       NUMBER(10)     NOT NULL,
+    BOARD_ID      NUMBER(10)     NOT NULL,
+    FILE_NAME     VARCHAR2(255)  NOT NULL,
+    FILE_PATH     VARCHAR2(500)  NOT NULL,
+    CONTENT_HASH  VARCHAR2(64),
+    CREATE_ID     VARCHAR2(50),
+    CREATE_DT     DATE           DEFAULT SYSDATE NOT NULL,
+    UPDATE_ID     VARCHAR2(50),
+    UPDATE_DT     DATE,
+    DEL_YN        CHAR(1)        DEFAULT 'N' NOT NULL,
+    CONSTRAINT PK_POST_FILE PRIMARY KEY (FILE_ID)
+);
+
+CREATE INDEX IDX_POST_FILE_BOARD ON POST_FILE (BOARD_ID);
+CREATE INDEX IDX_POST_FILE_CONTENT_HASH ON POST_FILE (CONTENT_HASH);
+
+CREATE TABLE FILE_BLOB (
+    CONTENT_HASH VARCHAR2(64)   NOT NULL,
+    FILE_PATH    VARCHAR2(500)  NOT NULL,
+    FILE_SIZE    NUMBER(19)     NOT NULL,
+    REF_COUNT    NUMBER(10)     DEFAULT 0 NOT NULL,
+    CREATE_DT    DATE           DEFAULT SYSDATE NOT NULL,
+    UPDATE_DT    DATE,
+    CONSTRAINT PK_FILE_BLOB PRIMARY KEY (CONTENT_HASH)
+);
+
+CREATE TABLE IMPORT_JOB (
+    JOB_ID         NUMBER(10)      NOT NULL,
+    FILE_NAME      VARCHAR2(255)   NOT NULL,
+    STATUS         VARCHAR2(20)    NOT NULL,
+    LAST_OFFSET    NUMBER(19)      DEFAULT 0 NOT NULL,
+    LINE_COUNT     NUMBER(19)      DEFAULT 0 NOT NULL,
+    BOARD_COUNT    NUMBER(19)      DEFAULT 0 NOT NULL,
+    COMMENT_COUNT  NUMBER(19)      DEFAULT 0 NOT NULL,
+    ELAPSED_MS     NUMBER(19)      DEFAULT 0 NOT NULL,
+    ERROR_MESSAGE  VARCHAR2(1000),
+    CREATE_ID      VARCHAR2(50),
+    CREATE_DT      DATE            DEFAULT SYSDATE NOT NULL,
+    UPDATE_DT      DATE,
+    CONSTRAINT PK_IMPORT_JOB PRIMARY KEY (JOB_ID)
+);
+
+-- 초기 데이터(data.sql)는 ID 를 직접 지정하므로 그 다음 번호부터 시작
+CREATE SEQUENCE SEQ_BOARD START WITH 10001;
+CREATE SEQUENCE SEQ_COMMENT START WITH 4001;
+CREATE SEQUENCE SEQ_POST_FILE START WITH 1;
+CREATE SEQUENCE SEQ_IMPORT_JOB;
@@ -1,20 +1,133 @@
 package back.config;
 
+import java.util.Properties;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import back.service.common.PooledPasswordEncoder;
+
 @Configuration
+@EnableScheduling
 public class Config {
+	/**
+	 * BCrypt 인코더 (해시/비교는 passwordHashExecutor 에서 실행)
+	 */
 	@Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PooledPasswordEncoder passwordEncoder(
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+            @Value("${auth.hash.timeout-ms:5000}") long timeoutMs) {
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor, timeoutMs);
+    }
+
+    /**
+     * 비밀번호 해시/비교 전용 스레드 풀 (대기열 초과 시 거부 - 503 응답)
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.hash.pool-size:2}") int poolSize,
+            @Value("${auth.hash.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
     }
     
+    /**
+     * 게시글 상세 하위 데이터(첨부파일/댓글) 동시 조회용 스레드 풀
+     * - 가상 스레드 모드에서는 작업마다 가상 스레드 실행 (DB 동시 접근은 ConnectionLimitingDataSource 가 제한)
+     */
+    @Bean(name = "boardDetailExecutor")
+    public TaskExecutor boardDetailExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("board-detail-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("board-detail-");
+        // 큐가 가득 차면 호출 스레드에서 직접 실행
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 첨부파일 디스크 쓰기 병렬 처리용 스레드 풀
+     */
+    @Bean(name = "fileIoExecutor")
+    public ThreadPoolTaskExecutor fileIoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("file-io-");
+        // 큐가 가득 차면 호출 스레드에서 직접 실행
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 게시물 일괄 가져오기 작업용 스레드 풀 (한 번에 한 작업, 대기열 초과 시 거부)
+     */
+    @Bean(name = "boardImportExecutor")
+    public ThreadPoolTaskExecutor boardImportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix("board-import-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 이미지 축소본 생성용 스레드 풀 (대기열 초과 시 거부 - 조회 시 생성으로 대체)
+     */
+    @Bean(name = "imageExecutor")
+    public ThreadPoolTaskExecutor imageExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
-}
\ No newline at end of file
+
+    /**
+     * MyBatis databaseId (oracle / h2) - Oracle 전용 문법(CONNECT BY 등) 쿼리는 databaseId="h2" 대체 쿼리를 둔다
+     */
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties properties = new Properties();
+        properties.setProperty("Oracle", "oracle");
+        properties.setProperty("H2", "h2");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(properties);
+        return provider;
+    }
+}
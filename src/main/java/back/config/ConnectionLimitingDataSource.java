@@ -0,0 +1,124 @@
+package back.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 동시 커넥션 사용 수를 풀 크기로 제한하는 DataSource 래퍼 (가상 스레드 모드 전용)
+ *
+ * - 가상 스레드는 요청마다 만들어지므로 수천 개가 동시에 Hikari 대기열로 몰릴 수 있다.
+ *   커넥션을 얻기 전에 세마포어에서 먼저 기다리게 해 대기는 가볍게(가상 스레드 park) 처리하고,
+ *   JDBC 드라이버 안에 들어가 캐리어 스레드를 붙잡는(pinning) 가상 스레드 수를 풀 크기 이하로 유지한다.
+ * - 허가는 커넥션 close() 시 반납한다.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final long timeoutMs;
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConnections, long timeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxConnections = maxConnections;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return guard(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long started = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                timedOut.increment();
+                throw new SQLTransientConnectionException(
+                        "DB 커넥션 대기 시간 초과 (" + timeoutMs + "ms, 최대 " + maxConnections + "개 사용 중)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 인터럽트", e);
+        }
+        waitNanos.add(System.nanoTime() - started);
+        acquired.increment();
+    }
+
+    /**
+     * close() 시 한 번만 허가를 반납하는 커넥션 프록시
+     */
+    private Connection guard(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    if ("unwrap".equals(method.getName()) && Connection.class.equals(args[0])) {
+                        return proxy;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    /**
+     * 사용 현황 (사용 중 커넥션, 대기 스레드 수, 평균 대기 시간)
+     */
+    public Map<String, Object> getStats() {
+        long count = acquired.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("maxConnections", maxConnections);
+        result.put("inUse", maxConnections - permits.availablePermits());
+        result.put("waiting", permits.getQueueLength());
+        result.put("acquiredCount", count);
+        result.put("timeoutCount", timedOut.sum());
+        result.put("avgWaitMs", count > 0 ? waitNanos.sum() / count / 1_000_000d : 0d);
+        return result;
+    }
+}
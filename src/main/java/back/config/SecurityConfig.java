@@ -8,12 +8,13 @@ import org.springframework.security.config.annotation.authentication.builders.Au
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import back.service.common.CustomUserDetailsService;
+import back.exception.HException;
+import back.service.common.CachingAuthenticationProvider;
 import back.util.ApiResponse;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -29,19 +30,16 @@ import jakarta.servlet.http.HttpServletResponse;
 public class SecurityConfig {
 
     @Autowired
-    private CustomUserDetailsService userDetailsService;
-
-    @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private CachingAuthenticationProvider cachingAuthenticationProvider;
 
     /**
      * ✅ 사용자 인증 관련 설정
-     * - CustomUserDetailsService + 비밀번호 인코더 등록
+     * - CustomUserDetailsService + 비밀번호 인코더 기반 인증 앞에 검증 결과 캐시를 둔 처리기 등록
+     * - HTTP Basic 요청마다 DB 조회 + BCrypt 비교가 반복되지 않도록 함
      */
     @Autowired
     public void configureGlobal(AuthenticationManagerBuilder auth) throws Exception {
-        auth.userDetailsService(userDetailsService)
-            .passwordEncoder(passwordEncoder);
+        auth.authenticationProvider(cachingAuthenticationProvider);
     }
 
     /**
@@ -88,6 +86,25 @@ public class SecurityConfig {
             .formLogin(form -> form.disable())
             .httpBasic(Customizer.withDefaults())
 
+            /**
+             * ✅ HTTP Basic 인증 중 비밀번호 처리 풀이 포화되어 발생한 HException 을 JSON 응답으로 변환 (503)
+             * - 컨트롤러 밖(필터)에서 발생하므로 GlobalExceptionHandler 가 처리하지 못함
+             */
+            .addFilterBefore((req, res, chain) -> {
+                try {
+                    chain.doFilter(req, res);
+                } catch (HException e) {
+                    if (res.isCommitted()) {
+                        throw e;
+                    }
+                    HttpServletResponse httpRes = (HttpServletResponse) res;
+                    httpRes.setStatus(e.getStatus().value());
+                    httpRes.setContentType("application/json; charset=UTF-8");
+                    httpRes.getWriter().write(new ObjectMapper().writeValueAsString(
+                            new ApiResponse<>(false, e.getMessage(), null)));
+                }
+            }, BasicAuthenticationFilter.class)
+
             /**
              * ✅ 세션 관리 정책
              * - IF_REQUIRED: 인증 시에만 세션 생성
@@ -0,0 +1,244 @@
+package back.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매핑 구문(statement ID)별 SQL 실행 시간 측정 MyBatis 인터셉터
+ *
+ * - 구문별 지연 히스토그램, 호출/오류/처리 행 수를 누적한다. (/api/metrics/sql.do)
+ * - 기준 시간을 넘은 구문은 바인딩 값과 함께 WARN 로그로 남긴다.
+ *   비밀번호/이메일 등 민감 항목과 사용자 매퍼(UserMapper)의 값은 형식과 길이만 남긴다.
+ * - SqlTraceFilter 가 추적 대상으로 정한 요청의 구문은 모두 back.sql.trace 로거(INFO)로 남긴다.
+ * - BATCH 실행기의 update 는 실제 실행이 flush 시점이므로 행 수를 세지 않는다.
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+            args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class }),
+    @Signature(type = Executor.class, method = "query",
+            args = { MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class }),
+    @Signature(type = Executor.class, method = "queryCursor",
+            args = { MappedStatement.class, Object.class, RowBounds.class }),
+    @Signature(type = Executor.class, method = "update",
+            args = { MappedStatement.class, Object.class })
+})
+@Slf4j
+public class SqlTimingInterceptor implements Interceptor {
+
+    /** 히스토그램 기록 범위 : 1us ~ 5분 */
+    private static final long HIGHEST_TRACKABLE_US = TimeUnit.MINUTES.toMicros(5);
+
+    private static final int MAX_PARAM_LENGTH = 200;
+
+    /** 값 대신 형식/길이만 남길 파라미터 이름 */
+    private static final Pattern SENSITIVE_PROPERTY = Pattern.compile("(?i)(password|passwd|pwd|email|token|secret)");
+
+    /** 모든 값을 형식/길이만 남길 매퍼 (사용자 정보) */
+    private static final String SENSITIVE_NAMESPACE = "back.mapper.user.";
+
+    private static final Logger traceLog = LoggerFactory.getLogger("back.sql.trace");
+
+    private final ConcurrentHashMap<String, StatementStats> stats = new ConcurrentHashMap<>();
+
+    private final long slowThresholdUs;
+
+    private final SqlTraceFilter sqlTraceFilter;
+
+    public SqlTimingInterceptor(@Value("${sql.slow-threshold-ms:500}") long slowThresholdMs,
+                                SqlTraceFilter sqlTraceFilter) {
+        this.slowThresholdUs = TimeUnit.MILLISECONDS.toMicros(slowThresholdMs);
+        this.sqlTraceFilter = sqlTraceFilter;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement ms = (MappedStatement) invocation.getArgs()[0];
+        Object parameter = invocation.getArgs()[1];
+        StatementStats statementStats = stats.computeIfAbsent(ms.getId(), id -> new StatementStats());
+
+        long started = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            long elapsedUs = (System.nanoTime() - started) / 1000;
+            statementStats.record(elapsedUs, rowCount(result), elapsedUs >= slowThresholdUs);
+            if (elapsedUs >= slowThresholdUs) {
+                logSlow(ms, parameter, elapsedUs);
+            } else if (sqlTraceFilter.isTracing()) {
+                logTrace(ms, parameter, elapsedUs, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            long elapsedUs = (System.nanoTime() - started) / 1000;
+            statementStats.recordError(elapsedUs);
+            if (sqlTraceFilter.isTracing()) {
+                logTrace(ms, parameter, elapsedUs, e);
+            }
+            throw e;
+        }
+    }
+
+    private long rowCount(Object result) {
+        if (result instanceof List<?> list) {
+            return list.size();
+        }
+        if (result instanceof Integer count && count >= 0) {
+            return count;
+        }
+        // Cursor 는 아직 읽기 전이고, BATCH 실행기 update 는 음수(건수 미정)를 돌려주므로 제외
+        return 0;
+    }
+
+    private void logSlow(MappedStatement ms, Object parameter, long elapsedUs) {
+        try {
+            BoundSql boundSql = ms.getBoundSql(parameter);
+            log.warn("느린 SQL {} : {}ms\n  sql    : {}\n  params : {}", ms.getId(), elapsedUs / 1000,
+                    boundSql.getSql().replaceAll("\\s+", " ").trim(),
+                    boundParameters(ms, boundSql, parameter));
+        } catch (Exception e) {
+            log.warn("느린 SQL {} : {}ms (바인딩 값 확인 실패)", ms.getId(), elapsedUs / 1000);
+        }
+    }
+
+    private void logTrace(MappedStatement ms, Object parameter, long elapsedUs, Object result) {
+        if (!traceLog.isInfoEnabled()) {
+            return;
+        }
+        try {
+            BoundSql boundSql = ms.getBoundSql(parameter);
+            traceLog.info("{} : {}ms, {}\n  sql    : {}\n  params : {}", ms.getId(), elapsedUs / 1000d,
+                    result instanceof Throwable ? "오류 " + result : "행 " + rowCount(result),
+                    boundSql.getSql().replaceAll("\\s+", " ").trim(),
+                    boundParameters(ms, boundSql, parameter));
+        } catch (Exception e) {
+            traceLog.info("{} : {}ms (바인딩 값 확인 실패)", ms.getId(), elapsedUs / 1000d);
+        }
+    }
+
+    /**
+     * 바인딩 순서대로 파라미터 값 추출 (DefaultParameterHandler 와 같은 규칙)
+     */
+    private List<String> boundParameters(MappedStatement ms, BoundSql boundSql, Object parameter) {
+        Configuration configuration = ms.getConfiguration();
+        boolean sensitiveStatement = ms.getId().startsWith(SENSITIVE_NAMESPACE);
+        List<String> values = new ArrayList<>();
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                value = configuration.newMetaObject(parameter).getValue(property);
+            }
+            if (value != null && (sensitiveStatement || SENSITIVE_PROPERTY.matcher(property).find())) {
+                values.add(mask(value));
+                continue;
+            }
+            String text = String.valueOf(value);
+            values.add(text.length() > MAX_PARAM_LENGTH ? text.substring(0, MAX_PARAM_LENGTH) + "..." : text);
+        }
+        return values;
+    }
+
+    /**
+     * 민감 값은 형식과 길이만 (예: String(60))
+     */
+    private static String mask(Object value) {
+        return value.getClass().getSimpleName() + "(" + String.valueOf(value).length() + ")";
+    }
+
+    /**
+     * 구문별 통계 (총 소요 시간 내림차순)
+     */
+    public List<Map<String, Object>> getStats() {
+        List<Map.Entry<String, StatementStats>> entries = new ArrayList<>(stats.entrySet());
+        entries.sort(Comparator.comparingLong(
+                (Map.Entry<String, StatementStats> entry) -> entry.getValue().totalUs.sum()).reversed());
+
+        List<Map<String, Object>> result = new ArrayList<>(entries.size());
+        for (Map.Entry<String, StatementStats> entry : entries) {
+            StatementStats value = entry.getValue();
+            ConcurrentHistogram histogram = value.histogram;
+            long count = value.count.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("statement", entry.getKey());
+            row.put("count", count);
+            row.put("errorCount", value.errors.sum());
+            row.put("slowCount", value.slow.sum());
+            row.put("rows", value.rows.sum());
+            row.put("totalMs", value.totalUs.sum() / 1000d);
+            row.put("avgMs", count > 0 ? value.totalUs.sum() / 1000d / count : 0d);
+            row.put("p50Ms", histogram.getValueAtPercentile(50) / 1000d);
+            row.put("p95Ms", histogram.getValueAtPercentile(95) / 1000d);
+            row.put("p99Ms", histogram.getValueAtPercentile(99) / 1000d);
+            row.put("maxMs", histogram.getMaxValue() / 1000d);
+            result.add(row);
+        }
+        return result;
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static class StatementStats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_US, 2);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder slow = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalUs = new LongAdder();
+
+        private void record(long elapsedUs, long rowCount, boolean isSlow) {
+            histogram.recordValue(Math.min(elapsedUs, HIGHEST_TRACKABLE_US));
+            count.increment();
+            totalUs.add(elapsedUs);
+            rows.add(rowCount);
+            if (isSlow) {
+                slow.increment();
+            }
+        }
+
+        private void recordError(long elapsedUs) {
+            histogram.recordValue(Math.min(elapsedUs, HIGHEST_TRACKABLE_US));
+            count.increment();
+            totalUs.add(elapsedUs);
+            errors.increment();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package back.config;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import back.util.SecurityUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청 단위 SQL 추적 여부 결정 필터
+ *
+ * - 전체 추적(enabled), 표본 비율(sampleRate), 요청 헤더(X-Sql-Trace: true) 중 하나라도 해당하면
+ *   그 요청에서 실행되는 SQL 을 SqlTimingInterceptor 가 바인딩 값과 함께 back.sql.trace 로거로 남긴다.
+ * - 요청 헤더는 관리자 요청일 때만 따른다. 인증 정보를 봐야 하므로 Spring Security 필터 다음에 실행되며,
+ *   인증 과정(사용자 조회)의 SQL 은 전체 추적일 때만 남는다.
+ * - 추적 대상이 아닌 요청은 ThreadLocal 확인 한 번 외에 비용이 없다.
+ * - 설정은 /api/metrics/sqlTrace.do (관리자) 로 재기동 없이 바꿀 수 있다.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class SqlTraceFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_HEADER = "X-Sql-Trace";
+    public static final String TRACE_ID = "sqlTraceId";
+
+    private static final ThreadLocal<Boolean> TRACING = new ThreadLocal<>();
+
+    private volatile boolean enabled;
+    private volatile double sampleRate;
+    private volatile boolean headerEnabled;
+
+    private final LongAdder tracedRequests = new LongAdder();
+
+    public SqlTraceFilter(@Value("${sql.trace.enabled:false}") boolean enabled,
+                          @Value("${sql.trace.sample-rate:0}") double sampleRate,
+                          @Value("${sql.trace.header-enabled:false}") boolean headerEnabled) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!shouldTrace(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        tracedRequests.increment();
+        TRACING.set(Boolean.TRUE);
+        MDC.put(TRACE_ID, Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TRACING.remove();
+            MDC.remove(TRACE_ID);
+        }
+    }
+
+    private boolean shouldTrace(HttpServletRequest request) {
+        if (enabled) {
+            return true;
+        }
+        if (headerEnabled && "true".equalsIgnoreCase(request.getHeader(TRACE_HEADER))
+                && SecurityUtil.isCurrentUserAdmin()) {
+            return true;
+        }
+        double rate = sampleRate;
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    /**
+     * 현재 스레드의 SQL 추적 여부 (요청 밖의 스케줄러 작업은 전체 추적일 때만)
+     */
+    public boolean isTracing() {
+        return enabled || TRACING.get() != null;
+    }
+
+    /**
+     * 추적 설정 변경 (null 항목은 유지)
+     */
+    public void update(Boolean enabled, Double sampleRate, Boolean headerEnabled) {
+        if (enabled != null) {
+            this.enabled = enabled;
+        }
+        if (sampleRate != null) {
+            this.sampleRate = Math.max(0d, Math.min(1d, sampleRate));
+        }
+        if (headerEnabled != null) {
+            this.headerEnabled = headerEnabled;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("sampleRate", sampleRate);
+        result.put("headerEnabled", headerEnabled);
+        result.put("tracedRequests", tracedRequests.sum());
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package back.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true 일 때만 적용)
+ *
+ * - 요청 처리(Tomcat)와 @Scheduled 는 Spring Boot 가 가상 스레드로 전환한다.
+ * - DataSource 는 ConnectionLimitingDataSource 로 감싸 동시 DB 접근을 Hikari 풀 크기로 제한한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int maxConnections = hikari.getMaximumPoolSize();
+                long timeoutMs = environment.getProperty("db.connection-limit.timeout-ms", Long.class,
+                        hikari.getConnectionTimeout());
+                log.info("가상 스레드 모드 - DB 동시 접근 {}개로 제한 (대기 {}ms)", maxConnections, timeoutMs);
+                return new ConnectionLimitingDataSource((DataSource) hikari, maxConnections, timeoutMs);
+            }
+        };
+    }
+}
@@ -2,27 +2,41 @@ package back.controller.board;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import back.exception.HException;
 import back.model.board.Board;
 import back.model.board.Comment;
+import back.model.board.ImportJob;
 import back.model.common.CustomUserDetails;
+import back.service.board.BoardExportService;
+import back.service.board.BoardImportService;
+import back.service.board.BoardListPayloadCache;
 import back.service.board.BoardService;
+import back.service.board.BoardVersionRegistry;
 import back.util.ApiResponse;
 import back.util.SecurityUtil;
 import jakarta.servlet.ServletException;
@@ -38,31 +52,207 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BoardController {
 
+    /**
+     * 목록/상세 캐시 정책 - 저장은 허용하되 매번 ETag 로 재검증
+     * (내용이 사용자별로 다르지 않고, 재검증 요청은 인증을 거치므로 공유 캐시도 허용)
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private BoardVersionRegistry boardVersionRegistry;
+
+    @Autowired
+    private BoardListPayloadCache boardListPayloadCache;
+
+    @Autowired
+    private BoardExportService boardExportService;
+
+    @Autowired
+    private BoardImportService boardImportService;
+
     /**
      * 게시판 목록 조회
+     * - cursor 값이 넘어오면 커서(seek) 페이징, 없으면 기존 page/size 페이징
+     * - If-None-Match 가 현재 목록 ETag 와 같으면 DB 조회 없이 304
+     * - gzip 을 받는 클라이언트에는 캐시된 압축 바이트를 그대로 전송 (BoardListPayloadCache)
      */
     @PostMapping("/list.do")
-    public ResponseEntity<?> getBoardList(@RequestBody Board board) {
+    public ResponseEntity<?> getBoardList(@RequestBody Board board,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return boardList(board, ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 게시판 목록 조회 (GET - 브라우저/프록시 캐시 재검증용, 조건은 쿼리 문자열)
+     */
+    @GetMapping("/list.do")
+    public ResponseEntity<?> getBoardListByQuery(@ModelAttribute Board board,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return boardList(board, ifNoneMatch, acceptEncoding);
+    }
+
+    private ResponseEntity<?> boardList(Board board, String ifNoneMatch, String acceptEncoding) {
+        // 버전은 조회 전에 읽는다 (BoardVersionRegistry 참고)
+        String etag = boardVersionRegistry.listETag(board);
+        String gzipEtag = BoardListPayloadCache.gzipETag(etag);
+        for (String candidate : new String[] { etag, gzipEtag }) {
+            if (BoardVersionRegistry.matches(ifNoneMatch, candidate)) {
+                boardVersionRegistry.recordListNotModified();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(candidate).cacheControl(REVALIDATE)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+            }
+        }
         log.info(board.toString());
-        List<Board> boardList = boardService.getBoardList(board);
+        if (acceptsGzip(acceptEncoding)) {
+            byte[] body = boardListPayloadCache.get(etag, () -> boardListResponse(board));
+            return ResponseEntity.ok()
+                    .eTag(gzipEtag)
+                    .cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(body.length)
+                    .body(body);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .body(boardListResponse(board));
+    }
+
+    private ApiResponse<?> boardListResponse(Board board) {
+        List<Board> boardList = board.getCursor() != null
+                ? boardService.getBoardListByCursor(board)
+                : boardService.getBoardList(board);
         Map dataMap = new HashMap<>();
         dataMap.put("list", boardList);
         dataMap.put("board", board);
-        return ResponseEntity.ok(new ApiResponse<>(true, "목록 조회 성공", dataMap));
+        dataMap.put("nextCursor", board.getNextCursor());
+        return new ApiResponse<>(true, "목록 조회 성공", dataMap);
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 이 있고 q=0 으로 거부하지 않았는지 확인
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 
     /**
      * 게시판 단건 조회
+     * - If-None-Match 가 현재 게시글 ETag 와 같으면 DB 조회 없이 304 (조회수는 증가)
      */
     @PostMapping("/view.do")
-    public ResponseEntity<?> getBoard(@RequestBody Board board) {
-        Board selectBoard = boardService.getBoardById(board.getBoardId());
-        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", selectBoard));
+    public ResponseEntity<?> getBoard(@RequestBody Board board,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardView(board.getBoardId(), ifNoneMatch);
+    }
+
+    /**
+     * 게시판 단건 조회 (GET - 브라우저/프록시 캐시 재검증용)
+     */
+    @GetMapping("/view.do")
+    public ResponseEntity<?> getBoardByQuery(@RequestParam("boardId") String boardId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return boardView(boardId, ifNoneMatch);
+    }
+
+    private ResponseEntity<?> boardView(String boardId, String ifNoneMatch) {
+        String etag = boardVersionRegistry.boardETag(boardId);
+        if (BoardVersionRegistry.matches(ifNoneMatch, etag)) {
+            boardVersionRegistry.recordViewNotModified();
+            boardService.countView(boardId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        Board selectBoard = boardService.getBoardById(boardId);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .body(new ApiResponse<>(true, "조회 성공", selectBoard));
     }
     
+    /**
+     * 게시물 전체 내보내기 (NDJSON / CSV 스트리밍, 관리자)
+     *
+     * @param format ndjson(기본) 또는 csv
+     * @param comments true 면 댓글 포함
+     * @param files true 면 첨부파일 메타데이터 포함
+     */
+    @GetMapping("/export.do")
+    public void exportBoards(@RequestParam(value = "format", defaultValue = BoardExportService.FORMAT_NDJSON) String format,
+            @RequestParam(value = "comments", defaultValue = "false") boolean comments,
+            @RequestParam(value = "files", defaultValue = "false") boolean files,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+        SecurityUtil.checkAdmin(userDetails);
+        boolean csv = BoardExportService.FORMAT_CSV.equals(format);
+        if (!csv && !BoardExportService.FORMAT_NDJSON.equals(format)) {
+            throw new HException("지원하지 않는 형식입니다. (ndjson, csv)");
+        }
+        String fileName = "boards-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"))
+                + (csv ? ".csv" : ".ndjson");
+        response.setContentType(csv ? "text/csv; charset=UTF-8" : "application/x-ndjson; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        try {
+            boardExportService.exportBoards(format, comments, files, response.getOutputStream());
+        } catch (RuntimeException | IOException e) {
+            if (!response.isCommitted()) {
+                // 동시 내보내기 초과(503) 등 - 내보내기용 헤더를 지우고 JSON 오류 응답으로
+                response.reset();
+                throw e;
+            }
+            // 이미 전송이 시작되어 오류 응답으로 바꿀 수 없음 - 연결을 끊어 불완전한 파일임을 알린다
+            log.error("게시물 내보내기 중단", e);
+            throw new IOException("게시물 내보내기 중단", e);
+        }
+    }
+
+    /**
+     * 게시물 일괄 가져오기 시작 (관리자 - board.import.dir 안의 NDJSON 파일명)
+     */
+    @PostMapping("/import/start.do")
+    public ResponseEntity<?> startImport(@RequestBody ImportJob importJob,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        ImportJob job = boardImportService.startImport(importJob.getFileName(), userDetails.getUsername());
+        return ResponseEntity.ok(new ApiResponse<>(true, "가져오기 시작", job));
+    }
+
+    /**
+     * 중단/실패한 가져오기 작업을 마지막 커밋 위치부터 재개 (관리자)
+     */
+    @PostMapping("/import/resume.do")
+    public ResponseEntity<?> resumeImport(@RequestBody ImportJob importJob,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        if (importJob.getJobId() == null) {
+            throw new HException("작업 ID가 필요합니다.");
+        }
+        ImportJob job = boardImportService.resumeImport(importJob.getJobId());
+        return ResponseEntity.ok(new ApiResponse<>(true, "가져오기 재개", job));
+    }
+
+    /**
+     * 가져오기 작업 진행 상태 (커밋된 위치/건수, 초당 처리 행 수)
+     */
+    @GetMapping("/import/status.do")
+    public ResponseEntity<?> getImportStatus(@RequestParam("jobId") long jobId,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", boardImportService.getImportJob(jobId)));
+    }
+
     /**
      * 게시판 등록
      */
@@ -117,6 +307,30 @@ public class BoardController {
     }
     
 
+    /**
+     * 댓글 목록 조회 (최상위 댓글 커서 페이징 + 스레드별 답글 미리보기, 트리 구조)
+     */
+    @PostMapping("/comment/list.do")
+    public ResponseEntity<?> getCommentList(@RequestBody Comment comment) {
+        List<Comment> commentList = boardService.getCommentTree(comment);
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("list", commentList);
+        dataMap.put("nextCursor", comment.getNextCursor());
+        return ResponseEntity.ok(new ApiResponse<>(true, "댓글 목록 조회 성공", dataMap));
+    }
+
+    /**
+     * 스레드 답글 더보기 (rootCommentId 기준 커서 페이징)
+     */
+    @PostMapping("/comment/replies.do")
+    public ResponseEntity<?> getReplyList(@RequestBody Comment comment) {
+        List<Comment> replyList = boardService.getReplies(comment);
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put("list", replyList);
+        dataMap.put("nextCursor", comment.getNextCursor());
+        return ResponseEntity.ok(new ApiResponse<>(true, "답글 목록 조회 성공", dataMap));
+    }
+
     /**
      * 댓글 등록
      */
@@ -1,8 +1,6 @@
 package back.controller.file;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.OutputStream;
+import java.io.IOException;
 import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.List;
@@ -21,9 +19,13 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import back.model.common.PostFile;
+import back.service.file.FileMetaCache;
 import back.service.file.FileService;
+import back.service.file.ImageDerivativeService;
 import back.util.ApiResponse;
+import back.util.FileDownloadUtil;
 import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,6 +48,10 @@ public class FileController {
 	@Autowired
 	private FileService fileService;
 
+	/** 이미지 축소본 서비스 */
+	@Autowired
+	private ImageDerivativeService imageDerivativeService;
+
 	/** MIME 타입 판별을 위한 서블릿 컨텍스트 */
 	@Autowired
 	private ServletContext servletContext;
@@ -54,94 +60,97 @@ public class FileController {
 	 * 일반 파일 다운로드를 처리하는 메서드
 	 *
 	 * @param fileId 다운로드할 파일의 식별자
+	 * @param request Range / 조건부 요청 헤더를 담은 HTTP 요청 객체
 	 * @param response 클라이언트로 파일을 전송할 HTTP 응답 객체
 	 */
 	@GetMapping("/down.do")
-	public void downloadFile(@RequestParam("fileId") String fileId, HttpServletResponse response) {
-		try {
-			// 파일 식별자 기반으로 파일 객체 생성
-			PostFile file = new PostFile();
-			file.setFileId(Integer.parseInt(fileId));
-
-			// DB 또는 저장소에서 파일 정보 조회
-			PostFile selectFile = fileService.getFileByFileId(file);
-
-			if (selectFile == null) {
-				// 파일 정보가 없는 경우
-				response.getWriter().write("파일을 찾을 수 없습니다.");
-				return;
-			}
-
-			// 실제 파일 객체 생성
-			File downloadFile = new File(selectFile.getFilePath());
-
-			if (!downloadFile.exists()) {
-				// 파일이 존재하지 않을 경우
-				response.getWriter().write("파일이 존재하지 않습니다.");
-				return;
-			}
-
-			// 다운로드 응답 설정
-			String fileName = selectFile.getFileName();
-			response.setContentType("application/octet-stream"); // 일반 바이너리 파일
-			response.setContentLength((int) downloadFile.length());
-			response.setHeader("Content-Disposition", 
-				"attachment; filename=" + URLEncoder.encode(fileName, "UTF-8")); // 첨부파일로 다운로드 처리
-		} catch (Exception e) {
-			e.printStackTrace(); // 예외 로깅
-		}
+	public void downloadFile(@RequestParam("fileId") String fileId,
+			HttpServletRequest request, HttpServletResponse response) {
+		sendFile(fileId, null, request, response, false);
 	}
 
 	/**
 	 * 이미지 파일 다운로드 처리 (브라우저에 바로 띄우기용)
 	 *
 	 * @param fileId 다운로드할 이미지 파일의 식별자
+	 * @param size 표시할 폭(px) - 지정하면 가장 가까운 축소본을 전송
+	 * @param request Range / 조건부 요청 헤더를 담은 HTTP 요청 객체
 	 * @param response 클라이언트로 이미지 파일을 전송할 HTTP 응답 객체
 	 */
 	@GetMapping("/imgDown.do")
-	public void downloadImage(@RequestParam("fileId") String fileId, HttpServletResponse response) {
+	public void downloadImage(@RequestParam("fileId") String fileId,
+			@RequestParam(value = "size", required = false) Integer size,
+			HttpServletRequest request, HttpServletResponse response) {
+		sendFile(fileId, size, request, response, true);
+	}
+
+	/**
+	 * 파일 조회 후 응답 전송 (ETag/304, Range, transferTo 처리는 FileDownloadUtil 에서 수행)
+	 *
+	 * @param size 이미지 축소본 폭 (null 이면 원본)
+	 * @param inline true 면 브라우저 표시용(이미지), false 면 첨부파일 다운로드
+	 */
+	private void sendFile(String fileId, Integer size, HttpServletRequest request, HttpServletResponse response, boolean inline) {
 		try {
-			PostFile file = new PostFile();
-			file.setFileId(Integer.parseInt(fileId));
-			PostFile selectFile = fileService.getFileByFileId(file);
+			// 파일 메타데이터 조회 (캐시 적중 시 DB/디스크 stat 조회 없음)
+			FileMetaCache.Entry entry = fileService.getFileMeta(Integer.parseInt(fileId));
 
-			if (selectFile == null) {
-				response.getWriter().write("파일을 찾을 수 없습니다.");
+			if (entry == null) {
+				// 파일 정보가 없는 경우
+				writeNotFound(response, "파일을 찾을 수 없습니다.");
 				return;
 			}
 
-			File downloadFile = new File(selectFile.getFilePath());
-			if (!downloadFile.exists()) {
-				response.getWriter().write("파일이 존재하지 않습니다.");
+			if (entry.getOriginal() == null) {
+				// 파일이 존재하지 않을 경우
+				writeNotFound(response, "파일이 존재하지 않습니다.");
 				return;
 			}
 
-			// 파일 MIME 타입 설정 (예: image/jpeg 등)
-			String mimeType = servletContext.getMimeType(selectFile.getFilePath());
-			if (mimeType == null)
-				mimeType = "application/octet-stream";
-
-			response.setContentType(mimeType); // 이미지라면 image/png 등
-			response.setContentLength((int) downloadFile.length());
-			response.setHeader("Content-Disposition",
-					"inline; filename=" + URLEncoder.encode(selectFile.getFileName(), "UTF-8")); // 브라우저에 표시
-
-			// 파일 스트림을 클라이언트에 전송
-			try (FileInputStream fis = new FileInputStream(downloadFile);
-				 OutputStream out = response.getOutputStream()) {
-
-				byte[] buffer = new byte[4096];
-				int bytesRead;
+			PostFile selectFile = entry.getPostFile();
+			FileMetaCache.FileStat target = entry.getOriginal();
+
+			String contentType = "application/octet-stream"; // 일반 바이너리 파일
+			String disposition = "attachment";
+			String cacheControl = "no-cache"; // 첨부파일은 매번 재검증 (변경 없으면 304)
+			if (inline) {
+				// 요청 크기에 맞는 축소본 (없으면 원본) - 캐시 키는 요청 값이 아닌 축소본 폭
+				target = entry.resolve(imageDerivativeService.widthFor(size),
+						key -> imageDerivativeService.resolve(selectFile, key));
+
+				// 파일 MIME 타입 설정 (예: image/jpeg 등) - 축소본은 저장 형식, 원본은 원래 파일명 우선 (blob 경로에는 확장자 없음)
+				String mimeType = target == entry.getOriginal()
+						? servletContext.getMimeType(selectFile.getFileName())
+						: servletContext.getMimeType(target.getFile().getName());
+				if (mimeType == null)
+					mimeType = servletContext.getMimeType(selectFile.getFilePath());
+				contentType = mimeType != null ? mimeType : "application/octet-stream";
+				disposition = "inline"; // 브라우저에 표시
+				cacheControl = "public, max-age=86400";
+			}
 
-				while ((bytesRead = fis.read(buffer)) != -1) {
-					out.write(buffer, 0, bytesRead);
-				}
+			// 내용 주소 blob 은 내용이 바뀌지 않으므로 해시(+ 축소본 이름)를 ETag 로 쓰고 영구 캐시 허용
+			String etag = null;
+			if (selectFile.getContentHash() != null) {
+				String variant = target == entry.getOriginal() ? "" : target.getFile().getName().substring(selectFile.getContentHash().length());
+				etag = "\"" + selectFile.getContentHash() + variant + "\"";
+				cacheControl = "public, max-age=31536000, immutable";
 			}
+
+			FileDownloadUtil.sendFile(request, response, target.getFile(), target.getLength(), target.getLastModified(),
+					contentType, disposition + "; filename=" + URLEncoder.encode(selectFile.getFileName(), "UTF-8"),
+					etag, cacheControl);
 		} catch (Exception e) {
-			e.printStackTrace(); // 예외 로깅
+			log.error("파일 다운로드 중 오류 : {}", fileId, e);
 		}
 	}
 
+	private void writeNotFound(HttpServletResponse response, String message) throws IOException {
+		response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+		response.setContentType("text/plain; charset=UTF-8");
+		response.getWriter().write(message);
+	}
+
 	/**
 	 * 이미지 파일 업로드 처리
 	 *
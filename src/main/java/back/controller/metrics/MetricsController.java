@@ -0,0 +1,199 @@
+package back.controller.metrics;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import back.config.ConnectionLimitingDataSource;
+import back.config.SqlTimingInterceptor;
+import back.config.SqlTraceFilter;
+import back.model.common.CustomUserDetails;
+import back.service.board.BoardArchiver;
+import back.service.board.BoardListPayloadCache;
+import back.service.board.BoardSearchIndex;
+import back.service.board.BoardVersionRegistry;
+import back.service.common.CachingAuthenticationProvider;
+import back.service.common.PooledPasswordEncoder;
+import back.service.file.FileService;
+import back.service.file.UploadGarbageCollector;
+import back.service.user.UserCache;
+import back.util.ApiResponse;
+import back.util.SecurityUtil;
+
+/**
+ * 운영 지표(캐시 적중률 등) 조회 REST 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+
+    @Autowired
+    private BoardVersionRegistry boardVersionRegistry;
+
+    @Autowired
+    private BoardListPayloadCache boardListPayloadCache;
+
+    @Autowired
+    private CachingAuthenticationProvider cachingAuthenticationProvider;
+
+    @Autowired
+    private PooledPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SqlTimingInterceptor sqlTimingInterceptor;
+
+    @Autowired
+    private SqlTraceFilter sqlTraceFilter;
+
+    @Autowired
+    private BoardArchiver boardArchiver;
+
+    @Autowired
+    private UploadGarbageCollector uploadGarbageCollector;
+
+    /**
+     * 첨부파일 메타데이터 캐시 통계
+     */
+    @GetMapping("/fileCache.do")
+    public ResponseEntity<?> getFileCacheStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", fileService.getFileCacheStats()));
+    }
+
+    /**
+     * 게시물 검색 색인 상태
+     */
+    @GetMapping("/searchIndex.do")
+    public ResponseEntity<?> getSearchIndexStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", boardSearchIndex.getStats()));
+    }
+
+    /**
+     * 인증 자격증명 캐시 통계
+     */
+    @GetMapping("/authCache.do")
+    public ResponseEntity<?> getAuthCacheStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", cachingAuthenticationProvider.getStats()));
+    }
+
+    /**
+     * 비밀번호 해시 스레드 풀 상태 (대기열 길이, 소요 시간, 거부 건수)
+     */
+    @GetMapping("/passwordHash.do")
+    public ResponseEntity<?> getPasswordHashStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", passwordEncoder.getStats()));
+    }
+
+    /**
+     * 사용자 조회 캐시 통계
+     */
+    @GetMapping("/userCache.do")
+    public ResponseEntity<?> getUserCacheStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", userCache.getStats()));
+    }
+
+    /**
+     * DB 동시 접근 제한 현황 (가상 스레드 모드에서만 사용)
+     */
+    @GetMapping("/dbConnections.do")
+    public ResponseEntity<?> getDbConnectionStats() {
+        Object stats = dataSource instanceof ConnectionLimitingDataSource limiter
+                ? limiter.getStats()
+                : Map.of("enabled", false);
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", stats));
+    }
+
+    /**
+     * SQL 구문별 실행 통계 (총 소요 시간 내림차순, 관리자)
+     */
+    @GetMapping("/sql.do")
+    public ResponseEntity<?> getSqlStats(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", sqlTimingInterceptor.getStats()));
+    }
+
+    /**
+     * SQL 구문별 실행 통계 초기화 (관리자)
+     */
+    @PostMapping("/sql/reset.do")
+    public ResponseEntity<?> resetSqlStats(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        sqlTimingInterceptor.reset();
+        return ResponseEntity.ok(new ApiResponse<>(true, "초기화 성공", null));
+    }
+
+    /**
+     * SQL 추적 설정 조회 (관리자)
+     */
+    @GetMapping("/sqlTrace.do")
+    public ResponseEntity<?> getSqlTrace(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", sqlTraceFilter.getStats()));
+    }
+
+    /**
+     * SQL 추적 설정 변경 (enabled, sampleRate, headerEnabled - 보내지 않은 항목은 유지, 관리자)
+     */
+    @PostMapping("/sqlTrace.do")
+    public ResponseEntity<?> updateSqlTrace(@RequestBody Map<String, Object> body,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+        SecurityUtil.checkAdmin(userDetails);
+        sqlTraceFilter.update(
+                body.get("enabled") instanceof Boolean enabled ? enabled : null,
+                body.get("sampleRate") instanceof Number rate ? rate.doubleValue() : null,
+                body.get("headerEnabled") instanceof Boolean header ? header : null);
+        return ResponseEntity.ok(new ApiResponse<>(true, "변경 성공", sqlTraceFilter.getStats()));
+    }
+
+    /**
+     * 게시물 목록/상세 버전 및 304 응답 건수
+     */
+    @GetMapping("/boardVersion.do")
+    public ResponseEntity<?> getBoardVersionStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", boardVersionRegistry.getStats()));
+    }
+
+    /**
+     * 게시물 목록 gzip 응답 캐시 통계
+     */
+    @GetMapping("/boardListCache.do")
+    public ResponseEntity<?> getBoardListCacheStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", boardListPayloadCache.getStats()));
+    }
+
+    /**
+     * 삭제 행 보관 작업 진행 현황
+     */
+    @GetMapping("/archive.do")
+    public ResponseEntity<?> getArchiveStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", boardArchiver.getStats()));
+    }
+
+    /**
+     * 업로드 파일 정리 작업 진행 현황 (회수 바이트 등)
+     */
+    @GetMapping("/uploadGc.do")
+    public ResponseEntity<?> getUploadGcStats() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "조회 성공", uploadGarbageCollector.getStats()));
+    }
+}
@@ -0,0 +1,47 @@
+package back.mapper.board;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface BoardArchiveMapper {
+
+    // DB 응답 지연 측정용
+    public int ping();
+
+    // 보관 기간이 지난 삭제 게시글 ID
+    public List<Long> findArchivableBoards(@Param("retentionDays") int retentionDays, @Param("limit") int limit);
+
+    // 보관 기간이 지난 삭제 댓글 ID (답글이 달려 있지 않은 것만)
+    public List<Long> findArchivableComments(@Param("retentionDays") int retentionDays, @Param("limit") int limit);
+
+    // 보관 기간이 지난 삭제 첨부파일 ID
+    public List<Long> findArchivableFiles(@Param("retentionDays") int retentionDays, @Param("limit") int limit);
+
+    // 게시글 단위 이동 (게시글에 달린 댓글/첨부파일 포함)
+    public int archiveCommentsOfBoards(@Param("boardIds") List<Long> boardIds);
+
+    public int deleteCommentsOfBoards(@Param("boardIds") List<Long> boardIds);
+
+    // 이동할 게시글의 살아있는 첨부파일이 참조하던 blob 참조 수 차감 (content 저장 방식)
+    public int releaseBlobsOfBoards(@Param("boardIds") List<Long> boardIds);
+
+    public int archiveFilesOfBoards(@Param("boardIds") List<Long> boardIds);
+
+    public int deleteFilesOfBoards(@Param("boardIds") List<Long> boardIds);
+
+    public int archiveBoards(@Param("boardIds") List<Long> boardIds);
+
+    public int deleteBoards(@Param("boardIds") List<Long> boardIds);
+
+    // 개별 삭제 댓글/첨부파일 이동
+    public int archiveComments(@Param("commentIds") List<Long> commentIds);
+
+    public int deleteComments(@Param("commentIds") List<Long> commentIds);
+
+    public int archiveFiles(@Param("fileIds") List<Long> fileIds);
+
+    public int deleteFiles(@Param("fileIds") List<Long> fileIds);
+}
@@ -0,0 +1,35 @@
+package back.mapper.board;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import back.model.board.Board;
+import back.model.board.Comment;
+import back.model.board.ImportJob;
+
+@Mapper
+public interface BoardImportMapper {
+
+    // 게시글 ID 일괄 예약 (SEQ_BOARD)
+    public List<Long> reserveBoardIds(@Param("count") int count);
+
+    // 댓글 ID 일괄 예약 (SEQ_COMMENT)
+    public List<Long> reserveCommentIds(@Param("count") int count);
+
+    // 게시글 저장 (BOARD_ID 는 reserveBoardIds 로 미리 채워야 함)
+    public int importBoard(Board board);
+
+    // 댓글 저장 (COMMENT_ID 는 reserveCommentIds 로 미리 채워야 함)
+    public int importComment(Comment comment);
+
+    public int createImportJob(ImportJob job);
+
+    public ImportJob getImportJob(@Param("jobId") long jobId);
+
+    // 청크 커밋 시 진행 위치/건수 갱신
+    public int updateImportProgress(ImportJob job);
+
+    public int updateImportStatus(ImportJob job);
+}
@@ -3,6 +3,8 @@ package back.mapper.board;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import back.model.board.Board;
 import back.model.board.Comment;
@@ -12,21 +14,42 @@ public interface BoardMapper {
 
     public List<Board> getBoardList(Board board);
 
+    public List<Board> getBoardListByCursor(Board board);
+
+    public List<Board> getBoardsByIds(@Param("boardIds") List<Long> boardIds);
+
     public int getTotalBoardCount(Board board);
 
     public Board getBoardById(String boardId);
 
+    public Board getBoardDetail(String boardId);
+
     public int create(Board board);
 
     public int update(Board board);
 
+    public int increaseViewCount(@Param("boardId") long boardId, @Param("delta") long delta);
+
     public int delete(Board board);
 
     public List<Comment> getCommentsByBoardId(String boardId);
 
+    public List<Comment> getRootCommentsByCursor(Comment comment);
+
+    public List<Comment> getReplyPreviews(@Param("rootCommentIds") List<Integer> rootCommentIds,
+            @Param("previewSize") int previewSize);
+
+    public List<Comment> getRepliesByCursor(Comment comment);
+
     public int insertComment(Comment comment);
 
+    public Integer getCommentBoardId(int commentId);
+
     public int updateComment(Comment comment);
 
     public int deleteComment(Comment comment);
-}
\ No newline at end of file
+
+    public Cursor<Board> exportBoards();
+
+    public Cursor<Comment> exportComments();
+}
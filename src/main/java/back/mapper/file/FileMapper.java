@@ -3,6 +3,8 @@ package back.mapper.file;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import back.model.common.PostFile;
 
@@ -20,4 +22,31 @@ public interface FileMapper {
 
     // 게시판 첨부 파일 삭제 (DEL YN = 'Y' 처리)
     public int deleteFile(PostFile file);
-}
\ No newline at end of file
+
+    // 첨부파일 ID 일괄 예약 (SEQ_POST_FILE)
+    public List<Integer> reserveFileIds(@Param("count") int count);
+
+    // 게시판 첨부 파일 일괄 저장 (FILE_ID 는 reserveFileIds 로 미리 채워야 함)
+    public int insertFiles(@Param("files") List<PostFile> files);
+
+    // blob 참조 일괄 등록 (내용 주소 방식 저장)
+    public int mergeBlobs(@Param("files") List<PostFile> files);
+
+    // blob 참조 해제
+    public int releaseBlob(PostFile file);
+
+    // 내보내기용 첨부파일 메타데이터 전체 스트리밍 (BOARD_ID, FILE_ID 순)
+    public Cursor<PostFile> exportFiles();
+
+    // 업로드 파일 정리용 살아있는 파일 경로 전체 스트리밍 (첨부파일 + 참조 중인 blob)
+    public Cursor<String> streamLiveFilePaths();
+
+    // blob 행 잠금 후 참조 수 조회 (행이 없으면 null)
+    public Integer lockBlobRefCount(@Param("contentHash") String contentHash);
+
+    // 행이 없는 blob 을 지우는 동안 쥘 잠금용 빈 행 (REF_COUNT = 0)
+    public int insertBlobPlaceholder(@Param("contentHash") String contentHash, @Param("filePath") String filePath);
+
+    // 참조가 없는 blob 행 삭제 (정리 작업에서 lockBlobRefCount 로 잠근 뒤 호출)
+    public int deleteUnreferencedBlob(@Param("contentHash") String contentHash);
+}
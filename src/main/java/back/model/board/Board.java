@@ -36,6 +36,12 @@ public class Board extends Model {
     private int size = 15; // 기본 페이지 크기 10
     private int totalCount;
     private int totalPages;
+
+    // 커서(seek) 페이징 - cursor 가 null 이 아니면 커서 모드 (빈 문자열은 첫 페이지)
+    private String cursor;
+    private Long lastBoardId;
+    private String nextCursor;
+    private boolean hasNext;
     //충돌이라도
     //이거 못 쓸 것 같은데
 
@@ -1,5 +1,7 @@
 package back.model.board;
 
+import java.util.List;
+
 import back.model.Model;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,4 +21,17 @@ public class Comment extends Model {
     private Integer parentCommentId; // 부모 댓글 ID (대댓글)
     private String content; // 댓글 내용
     private String delYn; // 삭제 여부 (Y/N)
+
+    // 트리 구성
+    private Integer rootCommentId; // 최상위 댓글 ID
+    private int replyCount; // 최상위 댓글 하위의 전체 답글 수
+    private List<Comment> replies; // 하위 답글
+
+    // 커서 페이징 (cursor 는 불투명 토큰, 빈 값이면 첫 페이지)
+    private String cursor;
+    private Long lastCommentId;
+    private String nextCursor;
+    private int size = 20; // 한 번에 가져올 최상위 댓글(또는 답글) 수
+    private int previewSize = 3; // 최상위 댓글마다 미리 보여줄 답글 수
+    private int endRow;
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package back.model.board;
+
+import back.model.Model;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물 일괄 가져오기 작업 (IMPORT_JOB)
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class ImportJob extends Model {
+    public static final String READY = "READY";
+    public static final String RUNNING = "RUNNING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private Long jobId;
+    private String fileName; // board.import.dir 기준 파일명
+    private String status;
+    private long lastOffset; // 마지막 커밋 청크의 끝 바이트 위치 (재개 시작점)
+    private long lineCount;
+    private long boardCount;
+    private long commentCount;
+    private long elapsedMs;
+    private String errorMessage;
+
+    /**
+     * 처리량 (게시글 + 댓글 행 / 초)
+     */
+    public double getRowsPerSecond() {
+        return elapsedMs > 0 ? (boardCount + commentCount) * 1000d / elapsedMs : 0d;
+    }
+}
@@ -21,6 +21,8 @@ public class PostFile extends Model {
     private String filePath;
     private String delYn;
     private String basePath;
+    private String contentHash; // 내용 주소 방식 저장 시 SHA-256 (legacy 저장은 null)
+    private long fileSize;
 
     private List<MultipartFile> files;
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package back.service.board;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import back.mapper.board.BoardArchiveMapper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 삭제(DEL_YN='Y') 후 보관 기간이 지난 게시글/댓글/첨부파일을 보관 테이블로 옮기는 백그라운드 작업
+ *
+ * - 한 청크(chunk-size 건)씩 별도 트랜잭션으로 옮기고 커밋하므로 잠금과 undo 가 청크 크기로 제한된다.
+ * - 청크마다 DB 응답 지연을 먼저 재고 pause-latency-ms 를 넘으면 쉬었다가 다시 잰다. 연속 3번 느리면 다음 주기로 미룬다.
+ * - 청크 사이에는 직전 청크에 걸린 시간 이상 쉬어 DB 점유율을 절반 이하로 유지한다.
+ * - 게시글을 옮길 때는 그 게시글의 댓글/첨부파일도 함께 옮기고, 살아있던 첨부파일의 blob 참조 수를 줄인다.
+ *   (디스크 파일은 남으며 참조가 0 이 된 blob 과 함께 파일 정리 작업이 회수한다)
+ * - 댓글은 답글이 없는 것부터 옮긴다. 답글이 남아 있는 댓글은 답글이 옮겨진 뒤 다음 청크/주기에 옮겨진다.
+ */
+@Component
+@Slf4j
+public class BoardArchiver {
+
+    private static final int MAX_CHUNK_SIZE = 1000;
+    private static final int MAX_SLOW_PROBES = 3;
+
+    private final BoardArchiveMapper boardArchiveMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long chunkPauseMs;
+    private final long pauseLatencyMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final LongAdder archivedBoards = new LongAdder();
+    private final LongAdder archivedComments = new LongAdder();
+    private final LongAdder archivedFiles = new LongAdder();
+    private final LongAdder releasedBlobs = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private final LongAdder chunkMillis = new LongAdder();
+    private final LongAdder pauses = new LongAdder();
+    private final LongAdder deferredRuns = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+
+    private volatile long lastChunkMs;
+    private volatile long lastProbeMs;
+    private volatile long lastRunAt;
+    private volatile String lastError;
+
+    public BoardArchiver(BoardArchiveMapper boardArchiveMapper, PlatformTransactionManager transactionManager,
+                         @Value("${board.archive.enabled:true}") boolean enabled,
+                         @Value("${board.archive.retention-days:30}") int retentionDays,
+                         @Value("${board.archive.chunk-size:200}") int chunkSize,
+                         @Value("${board.archive.max-chunks-per-run:50}") int maxChunksPerRun,
+                         @Value("${board.archive.chunk-pause-ms:200}") long chunkPauseMs,
+                         @Value("${board.archive.pause-latency-ms:50}") long pauseLatencyMs) {
+        this.boardArchiveMapper = boardArchiveMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionDays = Math.max(retentionDays, 0);
+        this.chunkSize = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+        this.chunkPauseMs = Math.max(chunkPauseMs, 0);
+        this.pauseLatencyMs = pauseLatencyMs;
+    }
+
+    /**
+     * 주기 실행 - 게시글, 댓글, 첨부파일 순으로 옮긴다. (한 번에 max-chunks-per-run 청크까지)
+     */
+    @Scheduled(fixedDelayString = "${board.archive.interval-ms:600000}",
+            initialDelayString = "${board.archive.interval-ms:600000}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        runs.increment();
+        lastRunAt = System.currentTimeMillis();
+        long before = archivedBoards.sum() + archivedComments.sum() + archivedFiles.sum();
+        try {
+            int budget = maxChunksPerRun;
+            budget = archive(budget, limit -> boardArchiveMapper.findArchivableBoards(retentionDays, limit), this::moveBoards);
+            budget = archive(budget, limit -> boardArchiveMapper.findArchivableComments(retentionDays, limit), this::moveComments);
+            archive(budget, limit -> boardArchiveMapper.findArchivableFiles(retentionDays, limit), this::moveFiles);
+            lastError = null;
+        } catch (DeferredException e) {
+            deferredRuns.increment();
+            log.info("삭제 행 보관 - DB 응답 지연({}ms)으로 다음 주기로 미룸", lastProbeMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("삭제 행 보관 실패 - 다음 주기에 재시도", e);
+        } finally {
+            running.set(false);
+        }
+        long moved = archivedBoards.sum() + archivedComments.sum() + archivedFiles.sum() - before;
+        if (moved > 0) {
+            log.info("삭제 행 보관 : {}건, {}ms", moved, System.currentTimeMillis() - lastRunAt);
+        }
+    }
+
+    /**
+     * 대상이 없거나 청크 한도를 다 쓸 때까지 한 청크씩 옮기고 남은 청크 수를 반환
+     */
+    private int archive(int budget, Function<Integer, List<Long>> finder, Mover mover)
+            throws InterruptedException, DeferredException {
+        while (budget > 0) {
+            awaitHealthyDatabase();
+
+            long started = System.currentTimeMillis();
+            List<Long> ids = finder.apply(chunkSize);
+            if (ids.isEmpty()) {
+                return budget;
+            }
+            transactionTemplate.executeWithoutResult(status -> mover.move(ids));
+            long elapsed = System.currentTimeMillis() - started;
+
+            budget--;
+            chunks.increment();
+            chunkMillis.add(elapsed);
+            lastChunkMs = elapsed;
+            if (ids.size() < chunkSize) {
+                return budget;
+            }
+            Thread.sleep(Math.max(chunkPauseMs, elapsed));
+        }
+        return budget;
+    }
+
+    /**
+     * DB 응답 지연이 기준 이하가 될 때까지 대기 (연속 MAX_SLOW_PROBES 번 느리면 이번 주기 중단)
+     */
+    private void awaitHealthyDatabase() throws InterruptedException, DeferredException {
+        if (pauseLatencyMs <= 0) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            long started = System.nanoTime();
+            boardArchiveMapper.ping();
+            lastProbeMs = (System.nanoTime() - started) / 1_000_000;
+            if (lastProbeMs <= pauseLatencyMs) {
+                return;
+            }
+            pauses.increment();
+            if (attempt >= MAX_SLOW_PROBES) {
+                throw new DeferredException();
+            }
+            Thread.sleep(Math.max(chunkPauseMs, 100) * attempt * 4);
+        }
+    }
+
+    private void moveBoards(List<Long> boardIds) {
+        releasedBlobs.add(boardArchiveMapper.releaseBlobsOfBoards(boardIds));
+        boardArchiveMapper.archiveCommentsOfBoards(boardIds);
+        archivedComments.add(boardArchiveMapper.deleteCommentsOfBoards(boardIds));
+        boardArchiveMapper.archiveFilesOfBoards(boardIds);
+        archivedFiles.add(boardArchiveMapper.deleteFilesOfBoards(boardIds));
+        boardArchiveMapper.archiveBoards(boardIds);
+        archivedBoards.add(boardArchiveMapper.deleteBoards(boardIds));
+    }
+
+    private void moveComments(List<Long> commentIds) {
+        boardArchiveMapper.archiveComments(commentIds);
+        archivedComments.add(boardArchiveMapper.deleteComments(commentIds));
+    }
+
+    private void moveFiles(List<Long> fileIds) {
+        boardArchiveMapper.archiveFiles(fileIds);
+        archivedFiles.add(boardArchiveMapper.deleteFiles(fileIds));
+    }
+
+    public Map<String, Object> getStats() {
+        long chunkCount = chunks.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("running", running.get());
+        result.put("retentionDays", retentionDays);
+        result.put("chunkSize", chunkSize);
+        result.put("runs", runs.sum());
+        result.put("lastRunAt", lastRunAt);
+        result.put("archivedBoards", archivedBoards.sum());
+        result.put("archivedComments", archivedComments.sum());
+        result.put("archivedFiles", archivedFiles.sum());
+        result.put("releasedBlobs", releasedBlobs.sum());
+        result.put("chunks", chunkCount);
+        result.put("lastChunkMs", lastChunkMs);
+        result.put("avgChunkMs", chunkCount > 0 ? (double) chunkMillis.sum() / chunkCount : 0d);
+        result.put("lastProbeMs", lastProbeMs);
+        result.put("pauses", pauses.sum());
+        result.put("deferredRuns", deferredRuns.sum());
+        result.put("lastError", lastError);
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface Mover {
+        void move(List<Long> ids);
+    }
+
+    /** DB 응답 지연으로 이번 주기를 중단 */
+    private static class DeferredException extends Exception {
+        private static final long serialVersionUID = 1L;
+    }
+}
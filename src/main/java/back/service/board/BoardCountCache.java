@@ -0,0 +1,72 @@
+package back.service.board;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import back.mapper.board.BoardMapper;
+import back.model.board.Board;
+import back.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 전체 건수 캐시
+ *
+ * - 필터 없는 전체 건수는 메모리에 유지하고 등록/삭제 커밋 시 증감, 주기적으로 DB COUNT(*)와 맞춘다.
+ * - 검색 필터가 있는 목록은 검색 색인(BoardSearchIndex)이 건수를 구하므로 여기서 다루지 않는다.
+ */
+@Component
+@Slf4j
+public class BoardCountCache {
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    /** 전체 건수 (-1 이면 아직 DB에서 읽지 않은 상태) */
+    private final AtomicLong totalCount = new AtomicLong(-1);
+
+    /**
+     * 필터 없는 전체 건수 반환
+     */
+    public int getTotalCount() {
+        long count = totalCount.get();
+        if (count < 0) {
+            reconcile();
+            count = totalCount.get();
+        }
+        return (int) Math.max(count, 0);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 전체 건수를 증감 (트랜잭션 밖이면 즉시 반영)
+     */
+    public void adjustAfterCommit(int delta) {
+        TransactionUtil.afterCommit(() -> adjust(delta));
+    }
+
+    private void adjust(int delta) {
+        // 아직 로딩 전이면 다음 조회 시 DB 값으로 채워지므로 건드리지 않는다
+        totalCount.updateAndGet(count -> count < 0 ? count : Math.max(count + delta, 0));
+    }
+
+    /**
+     * DB COUNT(*) 와 주기적으로 동기화
+     * 동기화 도중 반영된 증감은 덮어써질 수 있으나 다음 주기에 다시 맞춰진다.
+     */
+    @Scheduled(fixedDelayString = "${board.count.reconcile-ms:60000}",
+            initialDelayString = "${board.count.reconcile-ms:60000}")
+    public void reconcile() {
+        try {
+            long before = totalCount.get();
+            int count = boardMapper.getTotalBoardCount(new Board());
+            totalCount.set(count);
+            if (before >= 0 && before != count) {
+                log.info("게시물 건수 캐시 보정 : {} -> {}", before, count);
+            }
+        } catch (Exception e) {
+            log.error("게시물 건수 캐시 동기화 실패", e);
+        }
+    }
+}
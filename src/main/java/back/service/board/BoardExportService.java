@@ -0,0 +1,13 @@
+package back.service.board;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface BoardExportService {
+
+    public static final String FORMAT_NDJSON = "ndjson";
+    public static final String FORMAT_CSV = "csv";
+
+    public void exportBoards(String format, boolean includeComments, boolean includeFiles, OutputStream out)
+            throws IOException;
+}
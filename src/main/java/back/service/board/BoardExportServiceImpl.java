@@ -0,0 +1,293 @@
+package back.service.board;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.function.ToLongFunction;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.exception.HException;
+import back.mapper.board.BoardMapper;
+import back.mapper.file.FileMapper;
+import back.model.board.Board;
+import back.model.board.Comment;
+import back.model.common.PostFile;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 내보내기 (NDJSON / CSV 스트리밍)
+ *
+ * - 게시글, 댓글, 첨부파일을 각각 BOARD_ID 순 Cursor 로 읽어 병합 조인하므로 게시글 수와 무관하게 메모리 사용량이 일정하다.
+ * - 응답 스트림에 바로 쓰고 FLUSH_ROWS 건마다 flush 해 첫 바이트가 즉시 나간다.
+ * - Cursor 는 트랜잭션(SqlSession)이 열려 있는 동안만 읽을 수 있으므로 내보내는 내내 커넥션 하나를 점유한다.
+ *   전송 속도는 클라이언트가 정하므로 동시 내보내기 수를 board.export.max-concurrent 로 제한하고, 넘으면 커넥션을 잡기 전에 503 으로 거절한다.
+ * - CSV 는 Excel 용이므로 =, +, -, @ 등으로 시작하는 문자열 값 앞에 ' 를 붙여 수식으로 실행되지 않게 한다.
+ */
+@Service
+@Slf4j
+public class BoardExportServiceImpl implements BoardExportService {
+
+    private static final int FLUSH_ROWS = 200;
+
+    private static final String[] CSV_HEADER = { "record_type", "board_id", "id", "parent_id", "title", "content",
+            "view_count", "create_id", "create_dt", "update_dt" };
+
+    @Autowired
+    private BoardMapper boardMapper;
+    @Autowired
+    private FileMapper fileMapper;
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    /** 동시 내보내기 제한 (내보내는 동안 DB 커넥션 하나씩 점유) */
+    private final Semaphore exportPermits;
+
+    public BoardExportServiceImpl(PlatformTransactionManager transactionManager,
+                                  @Value("${board.export.max-concurrent:2}") int maxConcurrent) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportPermits = new Semaphore(Math.max(maxConcurrent, 1));
+    }
+
+    @Override
+    public void exportBoards(String format, boolean includeComments, boolean includeFiles, OutputStream out)
+            throws IOException {
+        if (!FORMAT_NDJSON.equals(format) && !FORMAT_CSV.equals(format)) {
+            throw new HException("지원하지 않는 형식입니다. (ndjson, csv)");
+        }
+        if (!exportPermits.tryAcquire()) {
+            throw new HException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    export(format, includeComments, includeFiles, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            exportPermits.release();
+        }
+    }
+
+    private void export(String format, boolean includeComments, boolean includeFiles, OutputStream out)
+            throws IOException {
+        long started = System.currentTimeMillis();
+        try (Cursor<Board> boards = boardMapper.exportBoards();
+             Cursor<Comment> comments = includeComments ? boardMapper.exportComments() : null;
+             Cursor<PostFile> files = includeFiles ? fileMapper.exportFiles() : null) {
+
+            ChildStream<Comment> commentStream = new ChildStream<>(comments, comment -> comment.getBoardId());
+            ChildStream<PostFile> fileStream = new ChildStream<>(files, file -> file.getBoardId());
+            long rows = FORMAT_CSV.equals(format)
+                    ? writeCsv(boards, commentStream, fileStream, out)
+                    : writeNdjson(boards, commentStream, fileStream, out);
+            log.info("게시물 내보내기 완료 - {} {}건, {}ms", format, rows, System.currentTimeMillis() - started);
+        }
+    }
+
+    private long writeNdjson(Cursor<Board> boards, ChildStream<Comment> comments, ChildStream<PostFile> files,
+                             OutputStream out) throws IOException {
+        long rows = 0;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(new SerializedString("\n"));
+            for (Board board : boards) {
+                long boardId = Long.parseLong(board.getBoardId());
+                boardViewCounter.merge(board);
+
+                json.writeStartObject();
+                json.writeNumberField("boardId", boardId);
+                json.writeStringField("title", board.getTitle());
+                json.writeStringField("content", board.getContent());
+                json.writeNumberField("viewCount", board.getViewCount() != null ? Long.parseLong(board.getViewCount()) : 0);
+                json.writeStringField("createId", board.getCreateId());
+                json.writeStringField("updateId", board.getUpdateId());
+                json.writeStringField("createDt", board.getCreateDt());
+                json.writeStringField("updateDt", board.getUpdateDt());
+                if (comments.enabled()) {
+                    json.writeArrayFieldStart("comments");
+                    for (Comment comment : comments.childrenOf(boardId)) {
+                        json.writeStartObject();
+                        json.writeNumberField("commentId", comment.getCommentId());
+                        if (comment.getParentCommentId() != null) {
+                            json.writeNumberField("parentCommentId", comment.getParentCommentId());
+                        }
+                        json.writeStringField("content", comment.getContent());
+                        json.writeStringField("createId", comment.getCreateId());
+                        json.writeStringField("createDt", comment.getCreateDt());
+                        json.writeStringField("updateDt", comment.getUpdateDt());
+                        json.writeEndObject();
+                    }
+                    json.writeEndArray();
+                }
+                if (files.enabled()) {
+                    json.writeArrayFieldStart("files");
+                    for (PostFile file : files.childrenOf(boardId)) {
+                        json.writeStartObject();
+                        json.writeNumberField("fileId", file.getFileId());
+                        json.writeStringField("fileName", file.getFileName());
+                        json.writeStringField("contentHash", file.getContentHash());
+                        json.writeStringField("createId", file.getCreateId());
+                        json.writeStringField("createDt", file.getCreateDt());
+                        json.writeEndObject();
+                    }
+                    json.writeEndArray();
+                }
+                json.writeEndObject();
+
+                if (++rows % FLUSH_ROWS == 0) {
+                    json.flush();
+                }
+            }
+            json.writeRaw('\n');
+        }
+        return rows;
+    }
+
+    /**
+     * CSV - 게시글 행 뒤에 그 게시글의 댓글/첨부파일 행이 이어진다 (record_type 으로 구분, Excel 용 UTF-8 BOM 포함)
+     */
+    private long writeCsv(Cursor<Board> boards, ChildStream<Comment> comments, ChildStream<PostFile> files,
+                          OutputStream out) throws IOException {
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        writer.write('\uFEFF');
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        for (Board board : boards) {
+            long boardId = Long.parseLong(board.getBoardId());
+            boardViewCounter.merge(board);
+            writeCsvRow(writer, "board", boardId, boardId, null, board.getTitle(), board.getContent(),
+                    board.getViewCount(), board.getCreateId(), board.getCreateDt(), board.getUpdateDt());
+            for (Comment comment : comments.childrenOf(boardId)) {
+                writeCsvRow(writer, "comment", boardId, comment.getCommentId(), comment.getParentCommentId(), null,
+                        comment.getContent(), null, comment.getCreateId(), comment.getCreateDt(), comment.getUpdateDt());
+            }
+            for (PostFile file : files.childrenOf(boardId)) {
+                writeCsvRow(writer, "file", boardId, file.getFileId(), null, file.getFileName(), null, null, file.getCreateId(), file.getCreateDt(), null);
+            }
+            if (++rows % FLUSH_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] instanceof String text) {
+                writeCsvValue(writer, neutralizeFormula(text));
+            } else if (values[i] != null) {
+                writeCsvValue(writer, values[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Excel 수식 주입 방지 - 수식으로 해석되는 문자로 시작하면 앞에 ' 를 붙인다
+     */
+    static String neutralizeFormula(String value) {
+        if (value.isEmpty()) {
+            return value;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    /**
+     * RFC 4180 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+     */
+    static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * BOARD_ID 순으로 정렬된 하위 행(댓글/첨부파일) Cursor 를 게시글 순서에 맞춰 읽는 병합 조인 도우미
+     * - 현재 게시글보다 앞선 BOARD_ID 의 행(삭제된 게시글의 하위 행)은 건너뛴다.
+     */
+    private static class ChildStream<T> {
+        private final boolean enabled;
+        private final Iterator<T> iterator;
+        private final ToLongFunction<T> boardIdOf;
+        private T next;
+
+        private ChildStream(Cursor<T> cursor, ToLongFunction<T> boardIdOf) {
+            this.enabled = cursor != null;
+            this.iterator = cursor != null ? cursor.iterator() : Collections.emptyIterator();
+            this.boardIdOf = boardIdOf;
+            this.next = iterator.hasNext() ? iterator.next() : null;
+        }
+
+        private boolean enabled() {
+            return enabled;
+        }
+
+        private Iterable<T> childrenOf(long boardId) {
+            while (next != null && boardIdOf.applyAsLong(next) < boardId) {
+                advance();
+            }
+            return () -> new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return next != null && boardIdOf.applyAsLong(next) == boardId;
+                }
+
+                @Override
+                public T next() {
+                    T current = ChildStream.this.next;
+                    advance();
+                    return current;
+                }
+            };
+        }
+
+        private void advance() {
+            next = iterator.hasNext() ? iterator.next() : null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package back.service.board;
+
+import back.model.board.ImportJob;
+
+public interface BoardImportService {
+
+    public ImportJob startImport(String fileName, String createId);
+
+    public ImportJob resumeImport(long jobId);
+
+    public ImportJob getImportJob(long jobId);
+}
@@ -0,0 +1,389 @@
+package back.service.board;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import back.exception.HException;
+import back.mapper.board.BoardImportMapper;
+import back.model.board.Board;
+import back.model.board.Comment;
+import back.model.board.ImportJob;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 일괄 가져오기 (NDJSON, 한 줄에 게시글 하나 + comments 배열)
+ *
+ * - 입력 형식은 /api/board/export.do?format=ndjson 출력과 같다. 원본 boardId 는 무시하고 새 번호를 매기며,
+ *   댓글의 commentId / parentCommentId 는 같은 줄 안에서 부모 댓글을 찾는 데만 쓴다.
+ * - commit-rows(게시글 + 댓글 행) 단위로 청크를 만들어 시퀀스 범위를 한 번에 예약하고,
+ *   BATCH 실행기로 INSERT 한 뒤 진행 위치(IMPORT_JOB.LAST_OFFSET)와 함께 커밋한다.
+ * - 실패하거나 서버가 내려가도 마지막 커밋 위치부터 재개할 수 있다. (중복 INSERT 없음)
+ * - 청크가 커밋될 때마다 건수 캐시, 목록 버전, 검색 색인에 반영해 가져오는 도중에도 목록/검색이 DB 와 맞는다.
+ */
+@Service
+@Slf4j
+public class BoardImportServiceImpl implements BoardImportService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private BoardImportMapper boardImportMapper;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private BoardCountCache boardCountCache;
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+    @Autowired
+    private BoardVersionRegistry boardVersionRegistry;
+    @Autowired
+    @Qualifier("boardImportExecutor")
+    private ThreadPoolTaskExecutor boardImportExecutor;
+
+    @Value("${board.import.dir:C:/import}")
+    private String importDir;
+
+    @Value("${board.import.commit-rows:1000}")
+    private int commitRows;
+
+    /** 배치 실행기 전용 매퍼 (청크 트랜잭션 안에서는 이 매퍼만 사용) */
+    private final BoardImportMapper batchImportMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 실행 중이거나 대기 중인 작업 (같은 작업 중복 실행 방지) */
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public BoardImportServiceImpl(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager) {
+        this.batchImportMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH)
+                .getMapper(BoardImportMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ImportJob startImport(String fileName, String createId) {
+        resolveFile(fileName);
+        ImportJob job = new ImportJob();
+        job.setFileName(fileName);
+        job.setStatus(ImportJob.READY);
+        job.setCreateId(createId);
+        boardImportMapper.createImportJob(job);
+        submit(job.getJobId());
+        return boardImportMapper.getImportJob(job.getJobId());
+    }
+
+    @Override
+    public ImportJob resumeImport(long jobId) {
+        ImportJob job = getImportJob(jobId);
+        if (ImportJob.DONE.equals(job.getStatus())) {
+            throw new HException("이미 완료된 가져오기 작업입니다.");
+        }
+        resolveFile(job.getFileName());
+        submit(jobId);
+        return job;
+    }
+
+    @Override
+    public ImportJob getImportJob(long jobId) {
+        ImportJob job = boardImportMapper.getImportJob(jobId);
+        if (job == null) {
+            throw new HException("가져오기 작업이 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+        }
+        return job;
+    }
+
+    private void submit(long jobId) {
+        if (!activeJobs.add(jobId)) {
+            throw new HException("이미 실행 중인 가져오기 작업입니다.", HttpStatus.CONFLICT);
+        }
+        try {
+            boardImportExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            activeJobs.remove(jobId);
+            throw new HException("가져오기 작업 대기열이 가득 찼습니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * board.import.dir 안의 파일만 허용
+     */
+    private Path resolveFile(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new HException("가져오기 파일명이 필요합니다.");
+        }
+        Path dir = Paths.get(importDir).toAbsolutePath().normalize();
+        Path file = dir.resolve(fileName).normalize();
+        if (!file.startsWith(dir) || !Files.isRegularFile(file)) {
+            throw new HException("가져오기 파일을 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+        }
+        return file;
+    }
+
+    private void run(long jobId) {
+        ImportJob job = boardImportMapper.getImportJob(jobId);
+        long runStarted = System.currentTimeMillis();
+        long elapsedBefore = job.getElapsedMs();
+        try {
+            job.setStatus(ImportJob.RUNNING);
+            job.setErrorMessage(null);
+            boardImportMapper.updateImportStatus(job);
+            log.info("게시물 가져오기 시작 - 작업 {} ({}, {}바이트 위치부터)", jobId, job.getFileName(), job.getLastOffset());
+
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(resolveFile(job.getFileName())), 64 * 1024)) {
+                in.skipNBytes(job.getLastOffset());
+                LineReader reader = new LineReader(in, job.getLastOffset());
+                List<ImportRow> chunk = new ArrayList<>();
+                int chunkRows = 0;
+                long chunkLines = 0;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    chunkLines++;
+                    if (!line.isBlank()) {
+                        ImportRow row = parse(line, job.getLineCount() + chunkLines);
+                        chunk.add(row);
+                        chunkRows += 1 + row.comments.size();
+                    }
+                    if (chunkRows >= commitRows) {
+                        commitChunk(job, chunk, chunkLines, reader.getOffset(), elapsedBefore + System.currentTimeMillis() - runStarted);
+                        chunk.clear();
+                        chunkRows = 0;
+                        chunkLines = 0;
+                    }
+                }
+                if (chunkLines > 0) {
+                    commitChunk(job, chunk, chunkLines, reader.getOffset(), elapsedBefore + System.currentTimeMillis() - runStarted);
+                }
+            }
+
+            job.setStatus(ImportJob.DONE);
+            job.setElapsedMs(elapsedBefore + System.currentTimeMillis() - runStarted);
+            boardImportMapper.updateImportStatus(job);
+            log.info("게시물 가져오기 완료 - 작업 {} : 게시글 {}건, 댓글 {}건, {}행/초", jobId, job.getBoardCount(),
+                    job.getCommentCount(), String.format("%.1f", job.getRowsPerSecond()));
+        } catch (Exception e) {
+            log.error("게시물 가져오기 실패 - 작업 {} ({}바이트 위치까지 커밋됨)", jobId, job.getLastOffset(), e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            job.setStatus(ImportJob.FAILED);
+            job.setErrorMessage(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+            job.setElapsedMs(elapsedBefore + System.currentTimeMillis() - runStarted);
+            try {
+                boardImportMapper.updateImportStatus(job);
+            } catch (Exception statusError) {
+                log.error("가져오기 작업 상태 저장 실패 - 작업 {}", jobId, statusError);
+            }
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * 청크 저장 - ID 범위 예약 → 게시글 배치 INSERT → 댓글 배치 INSERT → 진행 위치 갱신을 한 트랜잭션으로 커밋
+     * (같은 구문이 연달아 실행되어야 BATCH 실행기가 한 PreparedStatement 로 묶으므로 게시글/댓글을 나눠 실행)
+     */
+    private void commitChunk(ImportJob job, List<ImportRow> chunk, long lines, long offset, long elapsedMs) {
+        int commentCount = 0;
+        for (ImportRow row : chunk) {
+            commentCount += row.comments.size();
+        }
+        int comments = commentCount;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!chunk.isEmpty()) {
+                List<Long> boardIds = batchImportMapper.reserveBoardIds(chunk.size());
+                List<Long> commentIds = comments > 0 ? batchImportMapper.reserveCommentIds(comments) : List.of();
+
+                int next = 0;
+                for (int i = 0; i < chunk.size(); i++) {
+                    ImportRow row = chunk.get(i);
+                    long boardId = boardIds.get(i);
+                    row.board.setBoardId(String.valueOf(boardId));
+                    batchImportMapper.importBoard(row.board);
+
+                    Map<Long, Integer> newIdBySource = new HashMap<>(row.comments.size() * 2);
+                    for (int j = 0; j < row.comments.size(); j++) {
+                        Comment comment = row.comments.get(j);
+                        comment.setCommentId(Math.toIntExact(commentIds.get(next++)));
+                        comment.setBoardId(Math.toIntExact(boardId));
+                        if (row.sourceIds.get(j) != null) {
+                            newIdBySource.put(row.sourceIds.get(j), comment.getCommentId());
+                        }
+                    }
+                    for (int j = 0; j < row.comments.size(); j++) {
+                        Long parentSourceId = row.parentSourceIds.get(j);
+                        // 같은 줄에서 부모를 찾지 못한 답글은 최상위 댓글로 저장
+                        row.comments.get(j).setParentCommentId(parentSourceId != null ? newIdBySource.get(parentSourceId) : null);
+                    }
+                }
+                for (ImportRow row : chunk) {
+                    for (Comment comment : row.comments) {
+                        batchImportMapper.importComment(comment);
+                    }
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                // 커밋 후 건수 캐시/목록 버전/검색 색인 반영 (롤백되면 반영하지 않음)
+                boardCountCache.adjustAfterCommit(chunk.size());
+                boardVersionRegistry.boardChangedAfterCommit(null);
+                String today = LocalDate.now().toString();
+                for (ImportRow row : chunk) {
+                    Board board = row.board;
+                    String createDt = board.getCreateDt() != null && board.getCreateDt().length() >= 10
+                            ? board.getCreateDt().substring(0, 10) : today;
+                    boardSearchIndex.indexAfterCommit(board.getBoardId(), board.getTitle(), board.getContent(), createDt);
+                }
+            }
+
+            ImportJob progress = new ImportJob();
+            progress.setJobId(job.getJobId());
+            progress.setLastOffset(offset);
+            progress.setLineCount(job.getLineCount() + lines);
+            progress.setBoardCount(job.getBoardCount() + chunk.size());
+            progress.setCommentCount(job.getCommentCount() + comments);
+            progress.setElapsedMs(elapsedMs);
+            batchImportMapper.updateImportProgress(progress);
+        });
+
+        job.setLastOffset(offset);
+        job.setLineCount(job.getLineCount() + lines);
+        job.setBoardCount(job.getBoardCount() + chunk.size());
+        job.setCommentCount(job.getCommentCount() + comments);
+        job.setElapsedMs(elapsedMs);
+    }
+
+    private ImportRow parse(String line, long lineNo) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(lineNo + "번째 줄 JSON 형식 오류 : " + e.getOriginalMessage());
+        }
+        String title = text(node, "title");
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException(lineNo + "번째 줄 title 없음");
+        }
+
+        ImportRow row = new ImportRow();
+        row.board.setTitle(title);
+        row.board.setContent(text(node, "content"));
+        row.board.setViewCount(node.path("viewCount").canConvertToLong() ? node.path("viewCount").asText() : null);
+        row.board.setCreateId(text(node, "createId"));
+        row.board.setCreateDt(dateTime(text(node, "createDt")));
+        row.board.setUpdateDt(dateTime(text(node, "updateDt")));
+
+        for (JsonNode item : node.path("comments")) {
+            String content = text(item, "content");
+            if (content == null || content.isBlank()) {
+                throw new IllegalArgumentException(lineNo + "번째 줄 댓글 content 없음");
+            }
+            Comment comment = new Comment();
+            comment.setContent(content);
+            comment.setCreateId(text(item, "createId"));
+            comment.setCreateDt(dateTime(text(item, "createDt")));
+            comment.setUpdateDt(dateTime(text(item, "updateDt")));
+            row.comments.add(comment);
+            row.sourceIds.add(item.path("commentId").canConvertToLong() ? item.path("commentId").asLong() : null);
+            row.parentSourceIds.add(item.path("parentCommentId").canConvertToLong()
+                    ? item.path("parentCommentId").asLong() : null);
+        }
+        return row;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * 일자만 있으면 자정으로 보정 (TO_DATE 'YYYY-MM-DD HH24:MI:SS')
+     */
+    private static String dateTime(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.length() == 10 ? value + " 00:00:00" : value;
+    }
+
+    /**
+     * 한 줄(게시글 + 댓글) 파싱 결과
+     */
+    private static class ImportRow {
+        private final Board board = new Board();
+        private final List<Comment> comments = new ArrayList<>();
+        private final List<Long> sourceIds = new ArrayList<>();
+        private final List<Long> parentSourceIds = new ArrayList<>();
+    }
+
+    /**
+     * 바이트 위치를 세며 한 줄씩 읽는 리더 (재개 위치 = 마지막으로 읽은 줄 끝)
+     */
+    static class LineReader {
+        private final InputStream in;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+        private long offset;
+
+        LineReader(InputStream in, long offset) {
+            this.in = in;
+            this.offset = offset;
+        }
+
+        String readLine() throws IOException {
+            buffer.reset();
+            int b;
+            boolean read = false;
+            while ((b = in.read()) != -1) {
+                read = true;
+                offset++;
+                if (b == '\n') {
+                    break;
+                }
+                buffer.write(b);
+            }
+            if (!read) {
+                return null;
+            }
+            String line = buffer.toString(StandardCharsets.UTF_8);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            if (line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            return line;
+        }
+
+        long getOffset() {
+            return offset;
+        }
+    }
+}
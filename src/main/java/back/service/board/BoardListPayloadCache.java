@@ -0,0 +1,99 @@
+package back.service.board;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 게시물 목록 응답 gzip 캐시
+ *
+ * - 목록 ETag(목록 버전 + 조회 조건)를 키로 직렬화 + gzip 압축이 끝난 바이트를 보관한다.
+ *   게시글이 쓰이면 목록 버전이 바뀌어 키가 달라지므로, 다음 쓰기 전까지는 같은 바이트를 그대로 내보낸다.
+ * - 최대 건수 안에서 자주 요청되는 페이지만 남는다. (Caffeine W-TinyLFU)
+ * - 응답에 포함된 조회수는 캐시 시점 값이다. 목록 ETag 에 조회수 반영 세대가 들어가면(board.version.include-view-counts)
+ *   조회수가 DB 에 반영될 때마다 키가 바뀌고, 빠져 있으면 TTL 로만 오래된 정도를 제한한다.
+ */
+@Component
+public class BoardListPayloadCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, byte[]> cache;
+
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+
+    public BoardListPayloadCache(ObjectMapper objectMapper,
+                                 @Value("${board.list-cache.max-size:200}") long maxSize,
+                                 @Value("${board.list-cache.ttl-seconds:10}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * gzip 응답 바이트 반환 (없으면 body 를 한 번만 만들어 직렬화/압축 후 보관, 같은 키 동시 요청은 대기)
+     */
+    public byte[] get(String etag, Supplier<?> body) {
+        return cache.get(etag, key -> compress(body.get()));
+    }
+
+    /**
+     * gzip 표현용 ETag (원본 표현과 구분되는 강한 ETag)
+     */
+    public static String gzipETag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
+
+    private byte[] compress(Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            byte[] compressed = out.toByteArray();
+            rawBytes.add(json.length);
+            compressedBytes.add(compressed.length);
+            return compressed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        long raw = rawBytes.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("rawBytes", raw);
+        result.put("compressedBytes", compressedBytes.sum());
+        result.put("compressionRatio", raw > 0 ? (double) compressedBytes.sum() / raw : 0d);
+        return result;
+    }
+}
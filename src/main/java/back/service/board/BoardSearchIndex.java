@@ -0,0 +1,387 @@
+package back.service.board;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import back.exception.HException;
+import back.mapper.board.BoardMapper;
+import back.model.board.Board;
+import back.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시물 제목/내용 인메모리 역색인
+ *
+ * - 글자/숫자 연속 구간을 2-gram 으로 잘라 색인 (한글처럼 띄어쓰기만으로 나누기 어려운 텍스트 대응, 한 글자 구간은 1-gram)
+ * - 기동 후 BOARD 를 커서 페이징으로 한 번 읽어 색인하고, 이후 등록/수정/삭제 커밋 시 증분 반영
+ *   (초기 색인이 실패하면 성공할 때까지 간격을 늘려 가며 다시 시도)
+ * - 검색어의 모든 n-gram 을 포함한 글만 대상으로 TF-IDF 점수(제목 가중) 순 정렬, 등록일 범위 필터
+ */
+@Component
+@Slf4j
+public class BoardSearchIndex {
+
+    /** 제목에서 나온 토큰 가중치 */
+    private static final int TITLE_WEIGHT = 3;
+
+    @Autowired
+    private BoardMapper boardMapper;
+
+    @Value("${board.search.build-page-size:1000}")
+    private int buildPageSize;
+
+    /** 초기 색인 실패 시 첫 재시도 간격 (이후 두 배씩, 최대 MAX_RETRY_DELAY_MS) */
+    @Value("${board.search.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    private static final long MAX_RETRY_DELAY_MS = 300_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 토큰 -> (게시글 ID -> 가중 빈도) */
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    /** 게시글 ID -> 색인 문서 */
+    private final Map<Long, IndexedBoard> documents = new HashMap<>();
+
+    /** 초기 색인 중 증분 반영된 게시글 (초기 색인이 옛 값으로 덮어쓰지 않도록) */
+    private final Set<Long> touchedDuringBuild = new HashSet<>();
+
+    private volatile boolean ready = false;
+    private boolean building = false;
+
+    private volatile int buildFailures;
+    private volatile String lastBuildError;
+    private volatile long lastBuildFailedAt;
+
+    /**
+     * 기동 완료 후 별도 스레드에서 초기 색인 (실패하면 준비될 때까지 재시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(this::buildUntilReady, "board-search-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    private void buildUntilReady() {
+        long delay = Math.max(retryDelayMs, 100);
+        while (!ready && !rebuild()) {
+            log.warn("게시물 검색 색인 {}ms 후 재시도 ({}회 실패)", delay, buildFailures);
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = Math.min(delay * 2, MAX_RETRY_DELAY_MS);
+        }
+    }
+
+    /**
+     * 전체 게시글 색인 (BOARD_ID 역순 커서 페이징)
+     *
+     * @return 색인 완료 여부 (실패했거나 이미 색인 중이면 false)
+     */
+    public boolean rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                log.info("게시물 검색 색인이 이미 진행 중 - 요청 무시");
+                return false;
+            }
+            building = true;
+            touchedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            Board page = new Board();
+            page.setStartRow(1);
+            page.setEndRow(buildPageSize);
+            int indexed = 0;
+
+            while (true) {
+                List<Board> boards = boardMapper.getBoardListByCursor(page);
+                if (boards.isEmpty()) {
+                    break;
+                }
+                lock.writeLock().lock();
+                try {
+                    for (Board board : boards) {
+                        long boardId = Long.parseLong(board.getBoardId());
+                        if (!touchedDuringBuild.contains(boardId)) {
+                            put(boardId, board.getTitle(), board.getContent(), board.getCreateDt());
+                        }
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                indexed += boards.size();
+                if (boards.size() < buildPageSize) {
+                    break;
+                }
+                page.setLastBoardId(Long.parseLong(boards.get(boards.size() - 1).getBoardId()));
+            }
+
+            ready = true;
+            lastBuildError = null;
+            log.info("게시물 검색 색인 완료 : {}건, 토큰 {}개, {}ms", indexed, postings.size(),
+                    System.currentTimeMillis() - started);
+            return true;
+        } catch (Exception e) {
+            buildFailures++;
+            lastBuildError = e.getMessage();
+            lastBuildFailedAt = System.currentTimeMillis();
+            log.error("게시물 검색 색인 실패", e);
+            return false;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                building = false;
+                touchedDuringBuild.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 게시글 등록/수정 반영 (커밋 후)
+     *
+     * @param createDt 등록일(YYYY-MM-DD), null 이면 기존 값 유지
+     */
+    public void indexAfterCommit(String boardId, String title, String content, String createDt) {
+        long id = Long.parseLong(boardId);
+        TransactionUtil.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                IndexedBoard previous = documents.get(id);
+                String date = createDt != null ? createDt : previous != null ? previous.createDt : null;
+                put(id, title, content, date);
+                if (building) {
+                    touchedDuringBuild.add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 게시글 삭제 반영 (커밋 후)
+     */
+    public void removeAfterCommit(String boardId) {
+        long id = Long.parseLong(boardId);
+        TransactionUtil.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(id);
+                if (building) {
+                    touchedDuringBuild.add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * 검색 (점수 내림차순, 같은 점수는 최신 글 우선)
+     *
+     * @return 조건에 맞는 전체 게시글 ID (정렬 완료)
+     */
+    public List<Long> search(String searchText, String startDate, String endDate) {
+        if (!ready) {
+            throw new HException("검색 색인을 준비 중입니다.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            Map<String, Integer> queryTokens = tokenize(searchText, 1);
+
+            if (queryTokens.isEmpty()) {
+                // 검색어 없이 기간만 지정
+                for (IndexedBoard doc : documents.values()) {
+                    if (inRange(doc.createDt, startDate, endDate)) {
+                        scores.put(doc.boardId, 0d);
+                    }
+                }
+            } else {
+                // 문서 수가 가장 적은 토큰부터 교집합
+                List<String> tokens = new ArrayList<>(queryTokens.keySet());
+                tokens.sort(Comparator.comparingInt(token -> postings.getOrDefault(token, Map.of()).size()));
+
+                Map<Long, Integer> first = postings.get(tokens.get(0));
+                if (first == null) {
+                    return List.of();
+                }
+                for (Long boardId : first.keySet()) {
+                    IndexedBoard doc = documents.get(boardId);
+                    if (doc != null && inRange(doc.createDt, startDate, endDate)) {
+                        scores.put(boardId, 0d);
+                    }
+                }
+
+                int total = documents.size();
+                for (String token : tokens) {
+                    Map<Long, Integer> posting = postings.get(token);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    double idf = Math.log(1 + (double) total / posting.size());
+                    scores.entrySet().removeIf(entry -> {
+                        Integer frequency = posting.get(entry.getKey());
+                        if (frequency == null) {
+                            return true;
+                        }
+                        entry.setValue(entry.getValue() + frequency * idf);
+                        return false;
+                    });
+                    if (scores.isEmpty()) {
+                        return List.of();
+                    }
+                }
+            }
+
+            List<Long> result = new ArrayList<>(scores.keySet());
+            result.sort((a, b) -> {
+                int byScore = Double.compare(scores.get(b), scores.get(a));
+                return byScore != 0 ? byScore : Long.compare(b, a);
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인 상태 (문서 수, 토큰 수)
+     */
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("ready", ready);
+            stats.put("documents", documents.size());
+            stats.put("tokens", postings.size());
+            stats.put("building", building);
+            stats.put("buildFailures", buildFailures);
+            stats.put("lastBuildError", lastBuildError);
+            stats.put("lastBuildFailedAt", lastBuildFailedAt);
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서만 호출
+    private void put(long boardId, String title, String content, String createDt) {
+        remove(boardId);
+
+        Map<String, Integer> terms = tokenize(title, TITLE_WEIGHT);
+        tokenize(stripTags(content), 1).forEach((token, frequency) -> terms.merge(token, frequency, Integer::sum));
+
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(boardId, term.getValue());
+        }
+        documents.put(boardId, new IndexedBoard(boardId, createDt, terms.keySet().toArray(new String[0])));
+    }
+
+    // 쓰기 잠금 안에서만 호출
+    private void remove(long boardId) {
+        IndexedBoard previous = documents.remove(boardId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * 글자/숫자 연속 구간 단위 n-gram 분해 (2글자 이상은 2-gram, 1글자는 그대로)
+     */
+    static Map<String, Integer> tokenize(String text, int weight) {
+        Map<String, Integer> tokens = new HashMap<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase();
+        int length = lower.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && !Character.isLetterOrDigit(lower.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < length && Character.isLetterOrDigit(lower.charAt(end))) {
+                end++;
+            }
+            if (end - start == 1) {
+                tokens.merge(lower.substring(start, end), weight, Integer::sum);
+            } else {
+                for (int i = start; i + 2 <= end; i++) {
+                    tokens.merge(lower.substring(i, i + 2), weight, Integer::sum);
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private static String stripTags(String content) {
+        return content == null ? null : content.replaceAll("<[^>]*>", " ");
+    }
+
+    private static boolean inRange(String createDt, String startDate, String endDate) {
+        if (createDt == null) {
+            return startDate == null || startDate.isEmpty();
+        }
+        String date = createDt.length() > 10 ? createDt.substring(0, 10) : createDt;
+        if (startDate != null && !startDate.isEmpty() && date.compareTo(startDate) < 0) {
+            return false;
+        }
+        return endDate == null || endDate.isEmpty() || date.compareTo(endDate) <= 0;
+    }
+
+    private static class IndexedBoard {
+        private final long boardId;
+        private final String createDt;
+        private final String[] tokens;
+
+        private IndexedBoard(long boardId, String createDt, String[] tokens) {
+            this.boardId = boardId;
+            this.createDt = createDt;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -10,8 +10,12 @@ import back.model.board.Comment;
 public interface BoardService {
 	
 	public List getBoardList(Board board);
+
+	public List<Board> getBoardListByCursor(Board board);
 	
     public Board getBoardById(String boardId);
+
+    public void countView(String boardId);
     
     public boolean createBoard(Board board) throws HException;
     
@@ -25,6 +29,12 @@ public interface BoardService {
     
     public boolean deleteComment(Comment comment);
 
+    public List<Comment> getCommentTree(Comment comment);
+
+    public List<Comment> getReplies(Comment comment);
+
+    public List<Comment> buildCommentTree(List<Comment> comments);
+
 	
 
 }
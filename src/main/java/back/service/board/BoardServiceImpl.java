@@ -1,8 +1,17 @@
 package back.service.board;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,50 +22,176 @@ import back.mapper.file.FileMapper;
 import back.model.board.Board;
 import back.model.board.Comment;
 import back.model.common.PostFile;
-import back.util.FileUploadUtil;
+import back.service.file.FileService;
+import back.util.CursorUtil;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class BoardServiceImpl implements BoardService {
+    private static final String CURSOR_PREFIX = "board";
+    private static final String COMMENT_CURSOR_PREFIX = "comment";
+    private static final String REPLY_CURSOR_PREFIX = "reply";
+    /** 커서 조회 한 번에 가져올 최대 건수 */
+    private static final int MAX_CURSOR_SIZE = 100;
+    private static final int DEFAULT_BOARD_SIZE = 15;
+    private static final int DEFAULT_COMMENT_SIZE = 20;
+    /** 최상위 댓글마다 미리 보여줄 최대 답글 수 */
+    private static final int MAX_PREVIEW_SIZE = 10;
+
     @Autowired
     private BoardMapper boardMapper;
     @Autowired
     private FileMapper fileMapper;
+    @Autowired
+    private FileService fileService;
+    @Autowired
+    private BoardCountCache boardCountCache;
+    @Autowired
+    private BoardSearchIndex boardSearchIndex;
+    @Autowired
+    private BoardViewCounter boardViewCounter;
+    @Autowired
+    private BoardVersionRegistry boardVersionRegistry;
+    @Autowired
+    @Qualifier("boardDetailExecutor")
+    private Executor boardDetailExecutor;
+
+    /** 상세 조회 방식 (join : 단일 쿼리, parallel : 하위 쿼리 동시 실행) */
+    @Value("${board.detail.load-mode:join}")
+    private String detailLoadMode;
 
     @Override
     public List<Board> getBoardList(Board board) {
+        if (hasSearchFilter(board)) {
+            return searchBoardList(board);
+        }
+        try {
+            applyPaging(board, boardCountCache.getTotalCount());
+
+            List<Board> boardList = boardMapper.getBoardList(board);
+            boardViewCounter.merge(boardList);
+            return boardList;
+        } catch (Exception e) {
+            log.error("게시물 목록 조회 실패", e);
+            throw new HException("게시물 목록 조회 실패", e);
+        }
+    }
+
+    /**
+     * 검색 조건 목록 조회 - 인메모리 색인으로 순위/건수를 구하고 해당 페이지 글만 DB에서 읽는다
+     */
+    private List<Board> searchBoardList(Board board) {
+        try {
+            List<Long> matched = boardSearchIndex.search(board.getSearchText(), board.getStartDate(), board.getEndDate());
+            int totalCount = matched.size();
+            applyPaging(board, totalCount);
+            int startRow = board.getStartRow();
+            int endRow = board.getEndRow();
+
+            if (startRow > totalCount || startRow < 1) {
+                return new ArrayList<>();
+            }
+            List<Long> pageIds = matched.subList(startRow - 1, Math.min(endRow, totalCount));
+
+            // IN 조회 결과를 색인 순위대로 재정렬
+            Map<String, Board> byId = new HashMap<>(pageIds.size() * 2);
+            for (Board row : boardMapper.getBoardsByIds(pageIds)) {
+                byId.put(row.getBoardId(), row);
+            }
+            List<Board> boardList = new ArrayList<>(pageIds.size());
+            int rn = startRow;
+            for (Long boardId : pageIds) {
+                Board row = byId.get(String.valueOf(boardId));
+                if (row != null) {
+                    row.setRn(rn);
+                    boardList.add(row);
+                }
+                rn++;
+            }
+            boardViewCounter.merge(boardList);
+            return boardList;
+        } catch (HException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("게시물 검색 실패", e);
+            throw new HException("게시물 검색 실패", e);
+        }
+    }
+
+    /**
+     * 전체 건수와 page/size 로 페이지 수와 조회 행 범위(ROWNUM) 설정
+     */
+    static void applyPaging(Board board, int totalCount) {
+        int page = board.getPage();
+        int size = board.getSize();
+
+        board.setTotalCount(totalCount);
+        board.setTotalPages((int) Math.ceil((double) totalCount / size));
+        board.setStartRow((page - 1) * size + 1);
+        board.setEndRow(page * size);
+    }
+
+    private boolean hasSearchFilter(Board board) {
+        return (board.getSearchText() != null && !board.getSearchText().isBlank())
+                || (board.getStartDate() != null && !board.getStartDate().isEmpty())
+                || (board.getEndDate() != null && !board.getEndDate().isEmpty());
+    }
+
+    @Override
+    public List<Board> getBoardListByCursor(Board board) {
         try {
-            int page = board.getPage();
-            int size = board.getSize();
+            int size = cursorSize(board.getSize(), DEFAULT_BOARD_SIZE);
+            board.setSize(size);
 
-            int totalCount = boardMapper.getTotalBoardCount(board);
-            int totalPages = (int) Math.ceil((double) totalCount / size);
+            // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            board.setLastBoardId(CursorUtil.decode(CURSOR_PREFIX, board.getCursor()));
+            board.setStartRow(1);
+            board.setEndRow(size + 1);
 
-            int startRow = (page - 1) * size + 1;
-            int endRow = page * size;
+            List<Board> boardList = boardMapper.getBoardListByCursor(board);
 
-            board.setTotalCount(totalCount);
-            board.setTotalPages(totalPages);
-            board.setStartRow(startRow);
-            board.setEndRow(endRow);
+            boolean hasNext = boardList.size() > size;
+            if (hasNext) {
+                boardList = boardList.subList(0, size);
+            }
+            board.setHasNext(hasNext);
+            board.setNextCursor(hasNext
+                    ? CursorUtil.encode(CURSOR_PREFIX, Long.parseLong(boardList.get(size - 1).getBoardId()))
+                    : null);
 
-            return boardMapper.getBoardList(board);
+            boardViewCounter.merge(boardList);
+            return boardList;
+        } catch (HException e) {
+            throw e;
         } catch (Exception e) {
             log.error("게시물 목록 조회 실패", e);
             throw new HException("게시물 목록 조회 실패", e);
         }
     }
 
-
+    /**
+     * 커서 조회 건수 (1 미만이면 기본값, MAX_CURSOR_SIZE 초과면 MAX_CURSOR_SIZE)
+     */
+    private static int cursorSize(int size, int defaultSize) {
+        return size < 1 ? defaultSize : Math.min(size, MAX_CURSOR_SIZE);
+    }
    
     @Override
     public Board getBoardById(String boardId) {
         try {
-            Board board = boardMapper.getBoardById(boardId);
-            board.setPostFiles(fileMapper.getFilesByBoardId(boardId));
-            board.setComments(boardMapper.getCommentsByBoardId(boardId));
+            Board board = "parallel".equals(detailLoadMode)
+                    ? getBoardDetailParallel(boardId)
+                    : boardMapper.getBoardDetail(boardId);
+            if (board == null) {
+                throw new HException("게시글이 존재하지 않습니다.", HttpStatus.NOT_FOUND);
+            }
+            // 조회수는 메모리에서 증가 후 주기적으로 반영, 응답에는 미반영분을 더해 내려준다
+            countView(boardId);
+            boardViewCounter.merge(board);
             return board;
+        } catch (HException e) {
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();
             log.error("게시글 조회 실패", e);
@@ -64,19 +199,46 @@ public class BoardServiceImpl implements BoardService {
         }
     }
     
+    @Override
+    public void countView(String boardId) {
+        boardViewCounter.increment(boardId);
+    }
+
+    /**
+     * 게시글 조회 후 첨부파일/댓글을 동시에 조회 (단일 조인 쿼리를 쓸 수 없을 때의 대체 경로)
+     */
+    private Board getBoardDetailParallel(String boardId) {
+        Board board = boardMapper.getBoardById(boardId);
+        if (board == null) {
+            return null;
+        }
+        CompletableFuture<List<PostFile>> files = CompletableFuture.supplyAsync(
+                () -> fileMapper.getFilesByBoardId(boardId), boardDetailExecutor);
+        CompletableFuture<List<Comment>> comments = CompletableFuture.supplyAsync(
+                () -> boardMapper.getCommentsByBoardId(boardId), boardDetailExecutor);
+        board.setPostFiles(files.join());
+        board.setComments(comments.join());
+        return board;
+    }
+
     @Override
     @Transactional
     public boolean createBoard(Board board) {
         try {
             boolean result = boardMapper.create(board) > 0;
+            if (result) {
+                boardCountCache.adjustAfterCommit(1);
+                boardSearchIndex.indexAfterCommit(board.getBoardId(), board.getTitle(), board.getContent(),
+                        LocalDate.now().toString());
+            }
             List<MultipartFile> files = board.getFiles();
             if (result && files != null) {
-                List<PostFile> fileList = FileUploadUtil.uploadFiles(files, "board",
+                List<PostFile> fileList = fileService.storeFiles(files, "board",
                     Integer.parseInt(board.getBoardId()), board.getCreateId());
-                for (PostFile postFile : fileList) {
-                    boolean insertResult = fileMapper.insertFile(postFile) > 0;
-                    if (!insertResult) throw new HException("파일 추가 실패");
-                }
+                fileService.insertFiles(fileList);
+            }
+            if (result) {
+                boardVersionRegistry.boardChangedAfterCommit(board.getBoardId());
             }
             return result;
         } catch (Exception e) {
@@ -91,6 +253,8 @@ public class BoardServiceImpl implements BoardService {
             boolean result = boardMapper.update(board) > 0;
 
             if (result) {
+                boardSearchIndex.indexAfterCommit(board.getBoardId(), board.getTitle(), board.getContent(), null);
+
                 List<MultipartFile> files = board.getFiles();
                 String remainingFileIds = board.getRemainingFileIds();
 
@@ -99,19 +263,17 @@ public class BoardServiceImpl implements BoardService {
                 for (PostFile existing : existingFiles) {
                     if (!remainingFileIds.contains(String.valueOf(existing.getFileId()))) {
                         existing.setUpdateId(board.getUpdateId());
-                        boolean deleteResult = fileMapper.deleteFile(existing) > 0;
+                        boolean deleteResult = fileService.deleteFile(existing);
                         if (!deleteResult) throw new HException("파일 삭제 실패");
                     }
                 }
 
                 if (files != null) {
-                    List<PostFile> uploadedFiles = FileUploadUtil.uploadFiles(files, "board",
+                    List<PostFile> uploadedFiles = fileService.storeFiles(files, "board",
                             Integer.parseInt(board.getBoardId()), board.getUpdateId());
-                    for (PostFile postFile : uploadedFiles) {
-                        boolean insertResult = fileMapper.insertFile(postFile) > 0;
-                        if (!insertResult) throw new HException("파일 추가 실패");
-                    }
+                    fileService.insertFiles(uploadedFiles);
                 }
+                boardVersionRegistry.boardChangedAfterCommit(board.getBoardId());
             }
 
             return result;
@@ -125,7 +287,13 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public boolean deleteBoard(Board board) {
         try {
-            return boardMapper.delete(board) > 0;
+            boolean result = boardMapper.delete(board) > 0;
+            if (result) {
+                boardCountCache.adjustAfterCommit(-1);
+                boardSearchIndex.removeAfterCommit(board.getBoardId());
+                boardVersionRegistry.boardDeletedAfterCommit(board.getBoardId());
+            }
+            return result;
         } catch (Exception e) {
             log.error("게시글 삭제 실패", e);
             throw new HException("게시글 삭제 실패", e);
@@ -136,7 +304,11 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public boolean createComment(Comment comment) {
         try {
-            return boardMapper.insertComment(comment) > 0;
+            boolean result = boardMapper.insertComment(comment) > 0;
+            if (result) {
+                commentChangedAfterCommit(comment);
+            }
+            return result;
         } catch (Exception e) {
            log.error("댓글 등록 실패", e);
             throw new HException("댓글 등록 실패", e);
@@ -147,7 +319,11 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public boolean updateComment(Comment comment) {
         try {
-            return boardMapper.updateComment(comment) > 0;
+            boolean result = boardMapper.updateComment(comment) > 0;
+            if (result) {
+                commentChangedAfterCommit(comment);
+            }
+            return result;
         } catch (Exception e) {
             log.error("댓글 수정 실패", e);
             throw new HException("댓글 수정 실패", e);
@@ -160,11 +336,132 @@ public class BoardServiceImpl implements BoardService {
 	@Transactional
 	public boolean deleteComment(Comment comment) {
 		 try {
-	            return boardMapper.deleteComment(comment) > 0;
+	            boolean result = boardMapper.deleteComment(comment) > 0;
+	            if (result) {
+	                commentChangedAfterCommit(comment);
+	            }
+	            return result;
 	        } catch (Exception e) {
 	            log.error("댓글 수정 실패", e);
 	            throw new HException("댓글 수정 실패", e);
 	        }
 	}
+
+    /**
+     * 댓글이 달린 게시글의 버전 갱신 (수정/삭제 요청에 boardId 가 없으면 댓글에서 조회)
+     */
+    private void commentChangedAfterCommit(Comment comment) {
+        Integer boardId = comment.getBoardId() > 0 ? comment.getBoardId()
+                : boardMapper.getCommentBoardId(comment.getCommentId());
+        if (boardId != null) {
+            boardVersionRegistry.commentChangedAfterCommit(String.valueOf(boardId));
+        }
+    }
+
+    @Override
+    public List<Comment> getCommentTree(Comment comment) {
+        try {
+            int size = cursorSize(comment.getSize(), DEFAULT_COMMENT_SIZE);
+            comment.setSize(size);
+            comment.setPreviewSize(Math.max(0, Math.min(comment.getPreviewSize(), MAX_PREVIEW_SIZE)));
+            comment.setLastCommentId(CursorUtil.decode(COMMENT_CURSOR_PREFIX, comment.getCursor()));
+            comment.setEndRow(size + 1);
+
+            List<Comment> roots = boardMapper.getRootCommentsByCursor(comment);
+            boolean hasNext = roots.size() > size;
+            if (hasNext) {
+                roots = roots.subList(0, size);
+            }
+            comment.setNextCursor(hasNext
+                    ? CursorUtil.encode(COMMENT_CURSOR_PREFIX, roots.get(size - 1).getCommentId())
+                    : null);
+            if (roots.isEmpty()) {
+                return roots;
+            }
+
+            List<Comment> flat = new ArrayList<>(roots);
+            if (comment.getPreviewSize() > 0) {
+                List<Integer> rootIds = new ArrayList<>(roots.size());
+                for (Comment root : roots) {
+                    rootIds.add(root.getCommentId());
+                }
+                List<Comment> previews = boardMapper.getReplyPreviews(rootIds, comment.getPreviewSize());
+
+                // 스레드 전체 답글 수는 미리보기 행마다 같이 내려오므로 최상위 댓글에 옮겨 둔다
+                Map<Integer, Comment> rootById = new HashMap<>(roots.size() * 2);
+                for (Comment root : roots) {
+                    rootById.put(root.getCommentId(), root);
+                }
+                for (Comment reply : previews) {
+                    Comment root = rootById.get(reply.getRootCommentId());
+                    if (root != null) {
+                        root.setReplyCount(reply.getReplyCount());
+                    }
+                }
+                flat.addAll(previews);
+            }
+            return buildCommentTree(flat);
+        } catch (HException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("댓글 목록 조회 실패", e);
+            throw new HException("댓글 목록 조회 실패", e);
+        }
+    }
+
+    @Override
+    public List<Comment> getReplies(Comment comment) {
+        if (comment.getRootCommentId() == null) {
+            throw new HException("최상위 댓글 ID가 필요합니다.");
+        }
+        try {
+            int size = cursorSize(comment.getSize(), DEFAULT_COMMENT_SIZE);
+            comment.setSize(size);
+            comment.setLastCommentId(CursorUtil.decode(REPLY_CURSOR_PREFIX, comment.getCursor()));
+            comment.setEndRow(size + 1);
+
+            List<Comment> replies = boardMapper.getRepliesByCursor(comment);
+            boolean hasNext = replies.size() > size;
+            if (hasNext) {
+                replies = replies.subList(0, size);
+            }
+            comment.setNextCursor(hasNext
+                    ? CursorUtil.encode(REPLY_CURSOR_PREFIX, replies.get(size - 1).getCommentId())
+                    : null);
+            return replies;
+        } catch (HException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("답글 목록 조회 실패", e);
+            throw new HException("답글 목록 조회 실패", e);
+        }
+    }
+
+    /**
+     * 평면 댓글 목록을 parentCommentId 기준 트리로 구성 (O(n))
+     * - 입력 순서를 그대로 유지하며, 부모가 목록에 없으면(삭제 등) 최상위 댓글 밑으로, 그마저 없으면 최상위로 붙인다.
+     */
+    @Override
+    public List<Comment> buildCommentTree(List<Comment> comments) {
+        Map<Integer, Comment> byId = new HashMap<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            comment.setReplies(new ArrayList<>());
+            byId.put(comment.getCommentId(), comment);
+        }
+
+        List<Comment> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            Comment parent = comment.getParentCommentId() != null ? byId.get(comment.getParentCommentId()) : null;
+            if (parent == null && comment.getParentCommentId() != null && comment.getRootCommentId() != null) {
+                parent = byId.get(comment.getRootCommentId());
+            }
+            if (parent == null || parent == comment) {
+                roots.add(comment);
+            } else {
+                parent.getReplies().add(comment);
+            }
+        }
+        return roots;
+    }
     
 }
\ No newline at end of file
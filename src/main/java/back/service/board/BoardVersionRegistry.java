@@ -0,0 +1,172 @@
+package back.service.board;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import back.model.board.Board;
+import back.util.TransactionUtil;
+
+/**
+ * 게시물 목록/상세 버전 관리 (ETag 발급 및 조건부 요청 판정)
+ *
+ * - 게시글 등록/수정/삭제는 해당 게시글 버전과 목록 버전을, 댓글 쓰기는 해당 게시글 버전만 올린다. (목록에는 댓글 정보가 없음)
+ * - 버전은 커밋 후에 올리고, 응답 쪽은 DB 조회 전에 버전을 먼저 읽는다.
+ *   그래야 옛 데이터에 새 버전이 붙는 일이 없다. (반대로 새 데이터에 옛 버전이 붙으면 다음 요청에서 한 번 더 받을 뿐)
+ * - ETag 에는 기동 시각(epoch)이 들어가므로 재기동이나 다른 인스턴스에서 발급된 값은 일치하지 않는다.
+ * - 삭제된 게시글은 항목을 지워 살아있는 게시글만 보관한다. 항목이 없는 게시글의 버전(기본 버전)을 삭제 시점 값으로 올려
+ *   삭제 전에 발급된 ETag 가 다시 일치하지 않게 한다. (변경 이력이 없는 게시글은 삭제 때마다 한 번씩 새로 받는다)
+ * - 조회수는 게시글별 버전 대신 조회수 반영(flush) 세대로 ETag 에 넣는다. (include-view-counts)
+ *   조회가 이어지는 동안 304 는 한 반영 주기 안에서만 나고 조회수는 그 주기만큼 늦게 보인다.
+ *   끄면 304 가 더 오래 나는 대신 다음 게시글 쓰기 전까지 클라이언트가 가진 조회수가 그대로 보인다.
+ */
+@Component
+public class BoardVersionRegistry {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /** 버전 발급용 단조 증가 값 */
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicLong listVersion = new AtomicLong();
+
+    /** 기동 후 변경된 살아있는 게시글만 보관 (없으면 기본 버전) */
+    private final ConcurrentHashMap<String, Long> boardVersions = new ConcurrentHashMap<>();
+
+    /** 항목이 없는 게시글의 버전 - 마지막 삭제 시점 값 */
+    private final AtomicLong untrackedVersion = new AtomicLong();
+
+    /** 조회수 반영 세대 (BoardViewCounter 가 DB 에 반영할 때마다 증가) */
+    private final AtomicLong viewGeneration = new AtomicLong();
+
+    /** 목록/상세 ETag 에 조회수 반영 세대를 넣을지 여부 */
+    @Value("${board.version.include-view-counts:true}")
+    private boolean includeViewCounts = true;
+
+    private final LongAdder listNotModified = new LongAdder();
+    private final LongAdder viewNotModified = new LongAdder();
+
+    /**
+     * 게시글 등록/수정/삭제 커밋 후 게시글 버전과 목록 버전 갱신
+     */
+    public void boardChangedAfterCommit(String boardId) {
+        TransactionUtil.afterCommit(() -> {
+            long version = clock.incrementAndGet();
+            if (boardId != null) {
+                boardVersions.merge(boardId, version, Math::max);
+            }
+            listVersion.accumulateAndGet(version, Math::max);
+        });
+    }
+
+    /**
+     * 게시글 삭제 커밋 후 항목 제거 및 목록 버전 갱신
+     * - 기본 버전을 먼저 올린 뒤 지워야 그 사이 조회가 삭제 전 ETag 와 같은 값을 받지 않는다.
+     */
+    public void boardDeletedAfterCommit(String boardId) {
+        TransactionUtil.afterCommit(() -> {
+            long version = clock.incrementAndGet();
+            untrackedVersion.accumulateAndGet(version, Math::max);
+            boardVersions.remove(boardId);
+            listVersion.accumulateAndGet(version, Math::max);
+        });
+    }
+
+    /**
+     * 댓글 등록/수정/삭제 커밋 후 게시글 버전 갱신
+     */
+    public void commentChangedAfterCommit(String boardId) {
+        if (boardId == null) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> boardVersions.merge(boardId, clock.incrementAndGet(), Math::max));
+    }
+
+    /**
+     * 조회수 증가분 DB 반영 후 조회수 반영 세대 갱신
+     */
+    public void viewCountsFlushed() {
+        viewGeneration.incrementAndGet();
+    }
+
+    /**
+     * 목록 ETag - 목록 버전 (+ 조회수 반영 세대) + 조회 조건 (같은 URL 이라도 조건이 다르면 다른 값)
+     */
+    public String listETag(Board board) {
+        String condition = board.getPage() + "|" + board.getSize() + "|" + board.getCursor() + "|"
+                + board.getSearchText() + "|" + board.getStartDate() + "|" + board.getEndDate();
+        return "\"l-" + epoch + "-" + listVersion.get() + viewSuffix() + "-" + digest(condition) + "\"";
+    }
+
+    private String viewSuffix() {
+        return includeViewCounts ? "." + viewGeneration.get() : "";
+    }
+
+    /**
+     * 상세 ETag - 게시글 버전 (+ 조회수 반영 세대)
+     */
+    public String boardETag(String boardId) {
+        Long version = boardVersions.get(boardId);
+        return "\"b-" + epoch + "-" + boardId + "-" + (version != null ? version : untrackedVersion.get())
+                + viewSuffix() + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 ETag 가 있는지 확인 (약한 비교)
+     * - "*" 는 게시글 존재 여부를 DB 조회 없이 알 수 없으므로 일치로 보지 않는다.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void recordListNotModified() {
+        listNotModified.increment();
+    }
+
+    public void recordViewNotModified() {
+        viewNotModified.increment();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("epoch", epoch);
+        result.put("listVersion", listVersion.get());
+        result.put("trackedBoards", boardVersions.size());
+        result.put("untrackedVersion", untrackedVersion.get());
+        result.put("includeViewCounts", includeViewCounts);
+        result.put("viewGeneration", viewGeneration.get());
+        result.put("listNotModified", listNotModified.sum());
+        result.put("viewNotModified", viewNotModified.sum());
+        return result;
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
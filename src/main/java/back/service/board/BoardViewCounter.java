@@ -0,0 +1,156 @@
+package back.service.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import back.mapper.board.BoardMapper;
+import back.model.board.Board;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 지연 반영(write-behind) 카운터
+ *
+ * - 조회 시 메모리의 LongAdder 만 증가시키고, 주기적으로 모인 증가분을 한 트랜잭션의 배치 UPDATE 로 반영한다.
+ * - 종료 시 남은 증가분을 모두 반영한다.
+ * - 화면에 내려가는 조회수는 DB 값 + 아직 반영되지 않은 증가분이다.
+ */
+@Component
+@Slf4j
+public class BoardViewCounter {
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /** 배치 실행기 전용 매퍼 (기본 SqlSessionTemplate 은 그대로 SIMPLE 실행기 사용) */
+    private final BoardMapper batchBoardMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardVersionRegistry boardVersionRegistry;
+
+    @Autowired
+    public BoardViewCounter(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                            BoardVersionRegistry boardVersionRegistry) {
+        this.batchBoardMapper = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH).getMapper(BoardMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.boardVersionRegistry = boardVersionRegistry;
+    }
+
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(String boardId) {
+        add(Long.parseLong(boardId), 1);
+    }
+
+    /**
+     * 증가분 누적
+     * - 더하는 사이 flush 가 빈 항목으로 보고 맵에서 떼어 냈다면 그 LongAdder 는 다시 읽히지 않으므로,
+     *   남은 값을 sumThenReset 으로 가져와 새 항목에 옮긴다. (flush 도 떼어 낸 뒤 같은 방식으로 옮기므로 한 번씩만 옮겨진다)
+     */
+    private void add(long boardId, long delta) {
+        while (delta > 0) {
+            LongAdder adder = pending.computeIfAbsent(boardId, key -> new LongAdder());
+            adder.add(delta);
+            if (pending.get(boardId) == adder) {
+                return;
+            }
+            delta = adder.sumThenReset();
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분
+     */
+    public long getPending(String boardId) {
+        if (boardId == null) {
+            return 0;
+        }
+        LongAdder adder = pending.get(Long.parseLong(boardId));
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * DB 조회수에 미반영 증가분을 더해 설정
+     */
+    public void merge(Board board) {
+        long delta = getPending(board.getBoardId());
+        if (delta > 0) {
+            long viewCount = board.getViewCount() != null ? Long.parseLong(board.getViewCount()) : 0;
+            board.setViewCount(String.valueOf(viewCount + delta));
+        }
+    }
+
+    public void merge(List<Board> boards) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Board board : boards) {
+            merge(board);
+        }
+    }
+
+    /**
+     * 모인 증가분을 배치 UPDATE 로 반영 (게시글 ID 순으로 갱신해 다른 인스턴스와의 교착 방지)
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> deltas = new TreeMap<>();
+        List<Long> idle = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                idle.add(entry.getKey());
+            }
+        }
+        // 직전 주기 이후 증가가 없던 항목은 정리 - 떼어 내는 사이 들어온 증가분은 새 항목으로 옮긴다
+        for (Long boardId : idle) {
+            LongAdder adder = pending.get(boardId);
+            if (adder != null && adder.sum() == 0 && pending.remove(boardId, adder)) {
+                add(boardId, adder.sumThenReset());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<Long, Long> entry : deltas.entrySet()) {
+                    batchBoardMapper.increaseViewCount(entry.getKey(), entry.getValue());
+                }
+            });
+            // 목록/상세 ETag 와 목록 응답 캐시 키가 바뀌어 반영된 조회수가 보이게 한다
+            boardVersionRegistry.viewCountsFlushed();
+            log.debug("조회수 반영 : {}건", deltas.size());
+        } catch (Exception e) {
+            log.error("조회수 반영 실패 - 다음 주기에 재시도", e);
+            deltas.forEach(this::add);
+        }
+    }
+
+    /**
+     * 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -0,0 +1,153 @@
+package back.service.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * 검증된 자격증명 캐시를 앞에 둔 인증 처리기
+ *
+ * - HTTP Basic 처럼 매 요청 비밀번호가 넘어오는 경우, 최근 검증에 성공한 (아이디, 비밀번호) 조합은
+ *   사용자 조회와 BCrypt 비교를 생략한다.
+ * - 캐시 키는 기동 시 만든 임의 키로 계산한 HMAC-SHA256 값이라 메모리에 평문/약한 해시가 남지 않는다.
+ * - 실패한 인증은 캐시하지 않으며, 회원정보 수정/탈퇴 시 해당 사용자 항목을 무효화한다.
+ */
+@Component
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final DaoAuthenticationProvider delegate;
+
+    private final Cache<String, VerifiedCredential> cache;
+
+    private final byte[] hmacKey = new byte[32];
+
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(this::newMac);
+
+    /** 무효화 세대 - 검증 도중 무효화가 일어나면 그 결과는 캐시하지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public CachingAuthenticationProvider(CustomUserDetailsService userDetailsService,
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${auth.cache.max-size:10000}") long maxSize) {
+        this.delegate = new DaoAuthenticationProvider(passwordEncoder);
+        this.delegate.setUserDetailsService(userDetailsService);
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        new SecureRandom().nextBytes(hmacKey);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (username == null || credentials == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String key = credentialKey(username, credentials.toString());
+        VerifiedCredential cached = cache.getIfPresent(key);
+        if (cached != null) {
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                    cached.principal, credentials, cached.principal.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        long startGeneration = generation.get();
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof UserDetails principal
+                && generation.get() == startGeneration) {
+            cache.put(key, new VerifiedCredential(username, principal));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * 사용자 캐시 항목 무효화 (비밀번호 변경, 탈퇴 등)
+     */
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> entry.username.equals(username));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (적중률 등)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    private String credentialKey(String username, String password) {
+        Mac hmac = mac.get();
+        hmac.update(username.getBytes(StandardCharsets.UTF_8));
+        hmac.update((byte) 0);
+        return Base64.getEncoder().encodeToString(hmac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
+            hmac.init(new SecretKeySpec(hmacKey, HMAC_ALGORITHM));
+            return hmac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " 사용 불가", e);
+        }
+    }
+
+    private static class VerifiedCredential {
+        private final String username;
+        private final UserDetails principal;
+
+        private VerifiedCredential(String username, UserDetails principal) {
+            this.username = username;
+            this.principal = principal;
+        }
+    }
+}
@@ -7,18 +7,18 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import back.mapper.user.UserMapper;
 import back.model.common.CustomUserDetails;
+import back.service.user.UserCache;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 	@Autowired
-    private UserMapper userMapper;
+    private UserCache userCache;
 
   
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userMapper.getUserById(username);
+        var user = userCache.get(username);
         if (user == null) {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
         }
@@ -0,0 +1,127 @@
+package back.service.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import back.exception.HException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전용 스레드 풀에서 실행하는 비밀번호 인코더
+ *
+ * - BCrypt 해시/비교를 크기와 대기열이 제한된 passwordHashExecutor 에서 실행해 요청 스레드를 묶어 두지 않는다.
+ * - 대기열이 가득 차거나 대기 시간이 제한을 넘으면 바로 503 으로 실패시켜 로그인 폭주가 다른 API 를 막지 않게 한다.
+ * - 대기열 길이, 대기/해시 소요 시간, 거부 건수를 통계로 제공한다.
+ */
+@Slf4j
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, long timeoutMs) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Supplier<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                waitNanos.add(started - submitted);
+                try {
+                    return task.get();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("비밀번호 처리 대기열 초과 - 요청 거부");
+            throw new HException(BUSY_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            log.warn("비밀번호 처리 대기 시간 초과 - 요청 거부");
+            throw new HException(BUSY_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new HException(BUSY_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 풀 상태 및 소요 시간 통계
+     */
+    public Map<String, Object> getStats() {
+        ThreadPoolExecutor pool = executor.getThreadPoolExecutor();
+        long count = completed.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("poolSize", pool.getPoolSize());
+        result.put("activeCount", pool.getActiveCount());
+        result.put("queueSize", pool.getQueue().size());
+        result.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+        result.put("completedCount", count);
+        result.put("rejectedCount", rejected.sum());
+        result.put("timeoutCount", timedOut.sum());
+        result.put("avgWaitMs", count > 0 ? waitNanos.sum() / count / 1_000_000d : 0d);
+        result.put("avgHashMs", count > 0 ? hashNanos.sum() / count / 1_000_000d : 0d);
+        result.put("maxHashMs", maxHashNanos.get() / 1_000_000d);
+        return result;
+    }
+}
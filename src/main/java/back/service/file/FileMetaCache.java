@@ -0,0 +1,159 @@
+package back.service.file;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import back.mapper.file.FileMapper;
+import back.model.common.PostFile;
+
+/**
+ * 첨부파일 메타데이터 캐시 (fileId 기준)
+ *
+ * - POST_FILE 행과 디스크 파일의 크기/수정 시각을 함께 보관해 반복 다운로드 시 DB 조회와 stat 호출을 생략한다.
+ * - 최대 건수를 넘으면 오래 안 쓴 항목부터 제거, 파일 삭제 시 커밋 후 명시적으로 무효화한다.
+ * - DB에 없거나 디스크에 없는 파일은 캐시하지 않는다.
+ */
+@Component
+public class FileMetaCache {
+
+    @Autowired
+    private FileMapper fileMapper;
+
+    private final Cache<Integer, Entry> cache;
+
+    public FileMetaCache(@Value("${file.meta-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 파일 메타데이터 조회 (DB에 행이 없으면 null)
+     */
+    public Entry get(int fileId) {
+        Entry entry = cache.getIfPresent(fileId);
+        if (entry != null) {
+            return entry;
+        }
+
+        PostFile param = new PostFile();
+        param.setFileId(fileId);
+        PostFile postFile = fileMapper.getFileByFileId(param);
+        if (postFile == null) {
+            return null;
+        }
+
+        File file = new File(postFile.getFilePath());
+        if (!file.isFile()) {
+            return new Entry(postFile, null);
+        }
+
+        entry = new Entry(postFile, new FileStat(file));
+        cache.put(fileId, entry);
+        return entry;
+    }
+
+    public void invalidate(int fileId) {
+        cache.invalidate(fileId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (적중률 등)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    /**
+     * 캐시 항목 : 파일 행 + 원본 파일 상태 + 축소본 폭별 이미지 축소본 상태
+     */
+    public static class Entry {
+        private final PostFile postFile;
+        private final FileStat original;
+        private final ConcurrentHashMap<Integer, FileStat> variants = new ConcurrentHashMap<>();
+
+        private Entry(PostFile postFile, FileStat original) {
+            this.postFile = postFile;
+            this.original = original;
+        }
+
+        public PostFile getPostFile() {
+            return postFile;
+        }
+
+        /** 디스크에 파일이 없으면 null */
+        public FileStat getOriginal() {
+            return original;
+        }
+
+        /**
+         * 축소본 폭에 맞는 파일 상태 (처음 한 번만 resolver 로 결정)
+         * - resolver 가 null 을 돌려주면(일시적 실패) 원본을 쓰되 보관하지 않아 다음 요청에서 다시 시도한다.
+         *
+         * @param width ImageDerivativeService.widthFor 로 구한 축소본 폭 (null 이면 원본) - 폭 종류만큼만 보관된다
+         */
+        public FileStat resolve(Integer width, Function<Integer, File> resolver) {
+            if (width == null) {
+                return original;
+            }
+            FileStat resolved = variants.computeIfAbsent(width, key -> {
+                File file = resolver.apply(key);
+                if (file == null) {
+                    return null;
+                }
+                return file.getPath().equals(original.getFile().getPath()) ? original : new FileStat(file);
+            });
+            return resolved != null ? resolved : original;
+        }
+    }
+
+    /**
+     * 디스크 파일 상태 (조회 시점 기준 크기/수정 시각)
+     */
+    public static class FileStat {
+        private final File file;
+        private final long length;
+        private final long lastModified;
+
+        private FileStat(File file) {
+            this.file = file;
+            this.length = file.length();
+            this.lastModified = file.lastModified();
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+    }
+}
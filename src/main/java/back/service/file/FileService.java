@@ -1,9 +1,12 @@
 package back.service.file;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.web.multipart.MultipartFile;
+
 import jakarta.servlet.http.HttpServletRequest;
 import back.model.common.PostFile;
 
@@ -11,8 +14,18 @@ public interface FileService {
 	
 	
     public PostFile getFileByFileId(PostFile file);
+
+    public FileMetaCache.Entry getFileMeta(int fileId);
+
+    public Map<String, Object> getFileCacheStats();
     
     public Map<String, Object> insertBoardFiles(PostFile file);
+
+    public List<PostFile> storeFiles(List<MultipartFile> files, String basePath, int boardId, String userId) throws IOException;
+
+    public void insertFiles(List<PostFile> files);
+
+    public boolean deleteFile(PostFile file);
 		
 
 }
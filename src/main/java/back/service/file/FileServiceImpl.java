@@ -1,10 +1,22 @@
 package back.service.file;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -13,14 +25,34 @@ import back.exception.HException;
 import back.mapper.file.FileMapper;
 import back.model.common.PostFile;
 import back.util.FileUploadUtil;
+import back.util.TransactionUtil;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
 public class FileServiceImpl implements FileService {
+    private static final String STORAGE_MODE_CONTENT = "content";
+    private static final String BASE_PATH_IMG = "img";
+    /** 다건 INSERT 한 문장에 담을 최대 파일 수 */
+    private static final int INSERT_CHUNK_SIZE = 100;
+
     @Autowired
 	private FileMapper fileMapper;
 
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    private FileMetaCache fileMetaCache;
+
+    @Autowired
+    @Qualifier("fileIoExecutor")
+    private Executor fileIoExecutor;
+
+    /** 첨부파일 저장 방식 (legacy : 날짜 폴더에 매번 새 파일, content : 내용 해시 기준 blob 공유) */
+    @Value("${file.storage.mode:legacy}")
+    private String storageMode;
+
 	@Override
 	@Transactional
 	public Map<String, Object> insertBoardFiles(PostFile file) {
@@ -39,11 +71,12 @@ public class FileServiceImpl implements FileService {
 	            return resultMap;
 	        }
 
-	        List<PostFile> uploadedFiles = FileUploadUtil.uploadFiles(files, basePath, boardId, userId);
+	        List<PostFile> uploadedFiles = storeFiles(files, basePath, boardId, userId);
+	        insertFiles(uploadedFiles);
 
-	        for (PostFile postfile : uploadedFiles) {
-	        	log.info(postfile.toString());
-	            fileMapper.insertFile(postfile);
+	        // 이미지 업로드는 축소본을 미리 생성
+	        if (BASE_PATH_IMG.equals(basePath)) {
+	            imageDerivativeService.generateAsync(uploadedFiles);
 	        }
 
 	        resultMap.put("result", true);
@@ -58,11 +91,133 @@ public class FileServiceImpl implements FileService {
 	    }
 	}
 	
+	/**
+	 * 업로드 파일을 디스크에 저장 (file.storage.mode 에 따라 날짜 폴더 또는 내용 주소 blob)
+	 * - 파일마다 fileIoExecutor 에서 병렬로 쓰고, 결과는 요청 순서대로 반환
+	 */
+	@Override
+	public List<PostFile> storeFiles(List<MultipartFile> files, String basePath, int boardId, String userId) throws IOException {
+		if (files.size() <= 1) {
+			return storeFile(files, basePath, boardId, userId);
+		}
+
+		List<CompletableFuture<List<PostFile>>> futures = new ArrayList<>(files.size());
+		for (MultipartFile file : files) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return storeFile(List.of(file), basePath, boardId, userId);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}, fileIoExecutor));
+		}
+
+		List<PostFile> storedFiles = new ArrayList<>(files.size());
+		try {
+			for (CompletableFuture<List<PostFile>> future : futures) {
+				storedFiles.addAll(future.join());
+			}
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UncheckedIOException) {
+				throw ((UncheckedIOException) e.getCause()).getCause();
+			}
+			throw e;
+		}
+		return storedFiles;
+	}
+
+	private List<PostFile> storeFile(List<MultipartFile> files, String basePath, int boardId, String userId) throws IOException {
+		if (STORAGE_MODE_CONTENT.equals(storageMode)) {
+			return FileUploadUtil.uploadFilesContentAddressed(files, boardId, userId);
+		}
+		return FileUploadUtil.uploadFiles(files, basePath, boardId, userId);
+	}
+
+	/**
+	 * 첨부파일 행 일괄 등록
+	 * - 시퀀스 값을 한 번에 예약한 뒤 다건 INSERT 한 번으로 저장 (파일마다 selectKey 왕복 없음)
+	 * - 내용 주소 방식이면 blob 참조 수도 MERGE 한 번으로 증가
+	 */
+	@Override
+	public void insertFiles(List<PostFile> files) {
+		for (int from = 0; from < files.size(); from += INSERT_CHUNK_SIZE) {
+			List<PostFile> chunk = files.subList(from, Math.min(from + INSERT_CHUNK_SIZE, files.size()));
+
+			List<Integer> fileIds = fileMapper.reserveFileIds(chunk.size());
+			if (fileIds.size() != chunk.size()) throw new HException("파일 ID 발급 실패");
+			for (int i = 0; i < chunk.size(); i++) {
+				chunk.get(i).setFileId(fileIds.get(i));
+			}
+
+			boolean insertResult = fileMapper.insertFiles(chunk) == chunk.size();
+			if (!insertResult) throw new HException("파일 추가 실패");
+
+			List<PostFile> blobFiles = new ArrayList<>();
+			for (PostFile postFile : chunk) {
+				if (postFile.getContentHash() != null) {
+					blobFiles.add(postFile);
+				}
+			}
+			if (!blobFiles.isEmpty()) {
+				mergeBlobs(blobFiles);
+			}
+		}
+	}
+
+	/**
+	 * blob 참조 등록
+	 * - 새 내용의 첫 업로드가 동시에 들어오면 양쪽 MERGE 가 모두 INSERT 로 가서 한쪽이 ORA-00001 로 실패한다.
+	 *   실패한 문장만 롤백되므로 한 번 더 실행하면 먼저 커밋된 행에 UPDATE 로 합쳐진다.
+	 */
+	private void mergeBlobs(List<PostFile> blobFiles) {
+		try {
+			fileMapper.mergeBlobs(blobFiles);
+		} catch (DuplicateKeyException e) {
+			log.debug("blob 참조 등록 중복 - 재시도", e);
+			fileMapper.mergeBlobs(blobFiles);
+		}
+		// MERGE 가 행을 잠근 뒤이므로 정리 작업은 더 이상 이 blob 을 지울 수 없다.
+		// 업로드에서 수정 시각을 갱신한 뒤 잠금을 얻기 전에 지워졌다면 없는 파일을 참조하게 되므로 롤백한다.
+		for (PostFile blobFile : blobFiles) {
+			if (!Files.exists(Paths.get(blobFile.getFilePath()))) {
+				throw new HException("첨부파일 저장 중 정리 작업과 충돌했습니다. 다시 시도해 주세요.", HttpStatus.CONFLICT);
+			}
+		}
+	}
+
+	/**
+	 * 첨부파일 삭제 처리 (DEL_YN = 'Y', 공유 blob 참조 해제)
+	 */
+	@Override
+	public boolean deleteFile(PostFile file) {
+		boolean result = fileMapper.deleteFile(file) > 0;
+		if (result && file.getContentHash() != null) {
+			fileMapper.releaseBlob(file);
+		}
+		// 커밋 전에 지우면 그 사이 다운로드 요청이 아직 보이는 행을 다시 캐시한다
+		int fileId = file.getFileId();
+		TransactionUtil.afterCommit(() -> fileMetaCache.invalidate(fileId));
+		return result;
+	}
+
 	@Override
 	public PostFile getFileByFileId(PostFile file) {
 		 return fileMapper.getFileByFileId(file);
 	}
 
+	/**
+	 * 다운로드용 파일 메타데이터 조회 (캐시 우선)
+	 */
+	@Override
+	public FileMetaCache.Entry getFileMeta(int fileId) {
+		return fileMetaCache.get(fileId);
+	}
+
+	@Override
+	public Map<String, Object> getFileCacheStats() {
+		return fileMetaCache.getStats();
+	}
+
 
 
 	
@@ -0,0 +1,295 @@
+package back.service.file;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import back.model.common.PostFile;
+import back.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지 축소본(썸네일) 생성/조회 서비스
+ *
+ * - 업로드 직후 imageExecutor 에서 폭별 축소본을 미리 만든다.
+ * - 조회 시 요청 크기 이상인 가장 작은 축소본을 돌려주고, 없으면 그 자리에서 만들어 디스크에 남긴다.
+ * - 축소본 경로 : {원본 경로}_w{폭}.{jpg|png}
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final String VARIANT_MARK = "_w";
+
+    @Autowired
+    @Qualifier("imageExecutor")
+    private Executor imageExecutor;
+
+    /** 미리 만들 축소본 폭 목록 (px, 오름차순) */
+    private final int[] widths;
+
+    /** 같은 축소본을 동시에 여러 번 만들지 않도록 진행 중인 작업 */
+    private final ConcurrentHashMap<String, CompletableFuture<File>> inflight = new ConcurrentHashMap<>();
+
+    public ImageDerivativeService(@Value("${file.image.variant-widths:160,480,1024}") String variantWidths) {
+        this.widths = Arrays.stream(variantWidths.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * 축소본 생성 요청 (트랜잭션 안이면 커밋 후 실행, 작업 큐가 가득 차면 조회 시 생성으로 미룸)
+     */
+    public void generateAsync(List<PostFile> files) {
+        Runnable submit = () -> {
+            for (PostFile file : files) {
+                try {
+                    imageExecutor.execute(() -> generate(file));
+                } catch (RejectedExecutionException e) {
+                    log.debug("축소본 생성 대기열 초과 - 조회 시 생성 : {}", file.getFilePath());
+                }
+            }
+        };
+        TransactionUtil.afterCommit(submit);
+    }
+
+    /**
+     * 모든 폭의 축소본 생성 (원본보다 작은 폭만)
+     */
+    public void generate(PostFile file) {
+        File source = new File(file.getFilePath());
+        try {
+            ImageHeader header = readHeader(source);
+            if (header == null) {
+                return; // 이미지가 아님
+            }
+            BufferedImage image = null;
+            for (int width : widths) {
+                if (width >= header.width) {
+                    break;
+                }
+                File variant = variantFile(source, width, header.outputFormat());
+                if (variant.exists()) {
+                    continue;
+                }
+                if (image == null) {
+                    image = ImageIO.read(source);
+                    if (image == null) {
+                        return;
+                    }
+                }
+                writeVariant(image, variant, width, header.outputFormat());
+            }
+        } catch (Exception e) {
+            log.warn("축소본 생성 실패 : {}", file.getFilePath(), e);
+        }
+    }
+
+    /**
+     * 요청 크기에 가장 가까운 파일 반환
+     * - 이미지가 아니거나 원본이 요청 폭 이하이면 원본, 헤더 읽기/축소본 생성이 실패하면 null (호출한 쪽에서 원본 사용)
+     *
+     * @param size 요청 폭(px), null 이면 원본
+     */
+    public File resolve(PostFile file, Integer size) {
+        File source = new File(file.getFilePath());
+        Integer width = widthFor(size);
+        if (width == null) {
+            return source;
+        }
+
+        try {
+            ImageHeader header = readHeader(source);
+            if (header == null || width >= header.width) {
+                return source;
+            }
+            File variant = variantFile(source, width, header.outputFormat());
+            if (variant.exists()) {
+                return variant;
+            }
+            return generateOne(source, variant, width, header.outputFormat());
+        } catch (Exception e) {
+            log.warn("축소본 조회 실패 - 원본 사용 : {}", file.getFilePath(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 요청 폭 이상인 가장 작은 축소본 폭 (없으면 가장 큰 축소본, 원본 요청이면 null)
+     * - 요청 값이 달라도 같은 축소본이면 같은 값을 돌려주므로 캐시 키로 쓸 수 있다.
+     */
+    public Integer widthFor(Integer size) {
+        if (size == null || size <= 0 || widths.length == 0) {
+            return null;
+        }
+        for (int candidate : widths) {
+            if (candidate >= size) {
+                return candidate;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    /**
+     * 축소본 하나를 즉시 생성 (이전 업로드분 대비, 동시 요청은 한 번만 생성)
+     * - 디코딩할 수 없는 이미지는 원본, 생성 중 오류는 null
+     */
+    private File generateOne(File source, File variant, int width, String format) {
+        CompletableFuture<File> created = new CompletableFuture<>();
+        CompletableFuture<File> running = inflight.putIfAbsent(variant.getPath(), created);
+        if (running != null) {
+            return running.join();
+        }
+        try {
+            if (!variant.exists()) {
+                BufferedImage image = ImageIO.read(source);
+                if (image == null) {
+                    created.complete(source);
+                    return source;
+                }
+                writeVariant(image, variant, width, format);
+            }
+            created.complete(variant);
+            return variant;
+        } catch (Exception e) {
+            log.warn("축소본 생성 실패 - 원본 사용 : {}", source.getPath(), e);
+            created.complete(null);
+            return null;
+        } finally {
+            inflight.remove(variant.getPath());
+        }
+    }
+
+    private void writeVariant(BufferedImage image, File variant, int width, String format) throws IOException {
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage resized = resize(image, width, height, "png".equals(format));
+
+        // 같은 폴더 임시 파일에 쓴 뒤 이동 (읽는 쪽에서 반쯤 쓰인 파일을 보지 않도록)
+        Path tmp = Files.createTempFile(variant.getParentFile().toPath(), variant.getName(), ".tmp");
+        try {
+            if (!ImageIO.write(resized, format, tmp.toFile())) {
+                throw new IOException("이미지 인코더 없음 : " + format);
+            }
+            Files.move(tmp, variant.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * 단계적 축소 (한 번에 절반 이하로 줄이지 않아 품질 유지)
+     */
+    private BufferedImage resize(BufferedImage image, int targetWidth, int targetHeight, boolean alpha) {
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D g = step.createGraphics();
+            try {
+                if (!alpha) {
+                    // JPEG 는 투명도가 없으므로 흰 배경
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, width, height);
+                }
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * 축소본 파일 경로
+     */
+    public static File variantFile(File source, int width, String format) {
+        return new File(source.getPath() + VARIANT_MARK + width + "." + format);
+    }
+
+    /**
+     * 축소본 경로면 원본 경로를, 아니면 null 반환
+     */
+    public static String sourcePathOf(String variantPath) {
+        int mark = variantPath.lastIndexOf(VARIANT_MARK);
+        if (mark < 0 || !(variantPath.endsWith(".jpg") || variantPath.endsWith(".png"))) {
+            return null;
+        }
+        String digits = variantPath.substring(mark + VARIANT_MARK.length(), variantPath.length() - 4);
+        if (digits.isEmpty() || !digits.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return variantPath.substring(0, mark);
+    }
+
+    /**
+     * 전체 디코딩 없이 이미지 헤더(형식, 폭)만 읽기
+     */
+    private ImageHeader readHeader(File source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source)) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                return new ImageHeader(reader.getFormatName().toLowerCase(), reader.getWidth(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static class ImageHeader {
+        private final String formatName;
+        private final int width;
+
+        private ImageHeader(String formatName, int width) {
+            this.formatName = formatName;
+            this.width = width;
+        }
+
+        /** 투명도가 있을 수 있는 형식은 png, 나머지는 jpg 로 저장 */
+        private String outputFormat() {
+            return "png".equals(formatName) || "gif".equals(formatName) ? "png" : "jpg";
+        }
+    }
+}
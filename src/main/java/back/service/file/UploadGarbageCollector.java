@@ -0,0 +1,354 @@
+package back.service.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import back.mapper.file.FileMapper;
+import back.util.FileUploadUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 디렉토리(/uploads) 고아 파일 정리 (mark-and-sweep)
+ *
+ * - mark : 삭제되지 않은 첨부파일과 참조 중인 blob 경로를 64비트 해시로 바꿔 정렬된 long[] 로 보관한다. (경로당 8바이트)
+ * - sweep : 디렉토리를 한 번에 max-files-per-run 건 정도씩 나눠 훑고, 살아있는 경로(축소본이면 원본 경로)가 아닌 파일 중
+ *   마지막 수정 후 grace-hours 가 지난 것만 지운다. 해시 충돌은 파일을 남기는 쪽으로만 작용한다.
+ * - 유예 기간 덕분에 mark 이후 올라온 파일, 롤백 직후의 파일, 쓰는 중인 blob 임시 파일은 지워지지 않는다.
+ *   (중복 업로드는 기존 blob 의 수정 시각을 갱신하므로 같은 규칙으로 보호된다)
+ * - 초당 검사 파일 수를 max-files-per-second 로 제한해 다운로드와 디스크 IO 를 다투지 않게 한다.
+ */
+@Component
+@Slf4j
+public class UploadGarbageCollector {
+
+    private static final int PACE_EVERY = 50;
+
+    private final FileMapper fileMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final long graceMs;
+    private final int maxFilesPerRun;
+    private final int maxFilesPerSecond;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** 스케줄러 스레드에서만 접근 (running 으로 보호) */
+    private final ArrayDeque<Path> pendingDirectories = new ArrayDeque<>();
+    private long[] liveHashes;
+    private long markedAt;
+    private long passStartedAt;
+
+    private final LongAdder passes = new LongAdder();
+    private final LongAdder scannedFiles = new LongAdder();
+    private final LongAdder youngFiles = new LongAdder();
+    private final LongAdder deletedFiles = new LongAdder();
+    private final LongAdder reclaimedBytes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private volatile int liveSetSize;
+    private volatile int pendingDirectoryCount;
+    private volatile long lastMarkMs;
+    private volatile long lastPassMs;
+    private volatile String lastError;
+
+    public UploadGarbageCollector(FileMapper fileMapper, PlatformTransactionManager transactionManager,
+                                  @Value("${file.gc.enabled:true}") boolean enabled,
+                                  @Value("${file.gc.dry-run:false}") boolean dryRun,
+                                  @Value("${file.gc.grace-hours:24}") long graceHours,
+                                  @Value("${file.gc.max-files-per-run:5000}") int maxFilesPerRun,
+                                  @Value("${file.gc.max-files-per-second:500}") int maxFilesPerSecond) {
+        this.fileMapper = fileMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.graceMs = TimeUnit.HOURS.toMillis(Math.max(graceHours, 1));
+        this.maxFilesPerRun = Math.max(maxFilesPerRun, 1);
+        this.maxFilesPerSecond = Math.max(maxFilesPerSecond, 1);
+    }
+
+    /**
+     * 주기 실행 - 남은 디렉토리를 이어서 훑고, 다 훑었으면 mark 부터 새로 시작
+     */
+    @Scheduled(fixedDelayString = "${file.gc.interval-ms:60000}",
+            initialDelayString = "${file.gc.interval-ms:60000}")
+    public void run() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (pendingDirectories.isEmpty()) {
+                Path root = Paths.get(FileUploadUtil.getUploadRoot());
+                if (!Files.isDirectory(root)) {
+                    return;
+                }
+                mark();
+                pendingDirectories.add(root);
+                passStartedAt = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - markedAt > graceMs / 2) {
+                // 한 바퀴가 유예 기간의 절반보다 길어지면 mark 를 새로 해 그 사이 삭제된 첨부파일도 반영
+                mark();
+            }
+            sweep();
+            lastError = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            lastError = e.getMessage();
+            log.error("업로드 파일 정리 실패 - 다음 주기에 재시도", e);
+        } finally {
+            pendingDirectoryCount = pendingDirectories.size();
+            running.set(false);
+        }
+    }
+
+    /**
+     * 살아있는 파일 경로 해시 집합 구성
+     */
+    private void mark() {
+        long started = System.currentTimeMillis();
+        long[] hashes = readOnlyTransaction.execute(status -> {
+            long[] buffer = new long[1024];
+            int size = 0;
+            try (Cursor<String> paths = fileMapper.streamLiveFilePaths()) {
+                for (String path : paths) {
+                    if (path == null || path.isEmpty()) {
+                        continue;
+                    }
+                    if (size == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, size * 2);
+                    }
+                    buffer[size++] = hash(normalize(path));
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            long[] result = Arrays.copyOf(buffer, size);
+            Arrays.sort(result);
+            return result;
+        });
+        liveHashes = hashes;
+        markedAt = System.currentTimeMillis();
+        liveSetSize = hashes.length;
+        lastMarkMs = markedAt - started;
+        log.debug("업로드 파일 정리 mark : {}건, {}ms", hashes.length, lastMarkMs);
+    }
+
+    /**
+     * 디렉토리 단위로 훑으며 고아 파일 삭제 (이번 주기 검사 건수가 max-files-per-run 을 넘으면 다음 주기로)
+     */
+    private void sweep() throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        int scanned = 0;
+        while (scanned < maxFilesPerRun && !pendingDirectories.isEmpty()) {
+            Path directory = pendingDirectories.poll();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    BasicFileAttributes attrs;
+                    try {
+                        attrs = Files.readAttributes(entry, BasicFileAttributes.class);
+                    } catch (IOException e) {
+                        continue; // 읽는 사이 지워진 파일
+                    }
+                    if (attrs.isDirectory()) {
+                        pendingDirectories.add(entry);
+                    } else if (attrs.isRegularFile()) {
+                        examine(entry, attrs);
+                        if (++scanned % PACE_EVERY == 0) {
+                            pace(started, scanned);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // 훑는 도중 지워진 디렉토리 등 - 다음 바퀴에 다시 본다
+                failures.increment();
+                log.warn("업로드 파일 정리 - 디렉토리 읽기 실패 : {} ({})", directory, e.getMessage());
+            }
+        }
+
+        if (pendingDirectories.isEmpty()) {
+            passes.increment();
+            lastPassMs = System.currentTimeMillis() - passStartedAt;
+            log.info("업로드 파일 정리 한 바퀴 완료 - 누적 삭제 {}건, 누적 회수 {}바이트, {}ms",
+                    deletedFiles.sum(), reclaimedBytes.sum(), lastPassMs);
+        }
+    }
+
+    private void examine(Path file, BasicFileAttributes attrs) {
+        scannedFiles.increment();
+        String path = file.toString();
+        if (isLive(path)) {
+            return;
+        }
+        String source = ImageDerivativeService.sourcePathOf(path);
+        if (source != null && isLive(source)) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - graceMs;
+        if (attrs.lastModifiedTime().toMillis() > cutoff) {
+            youngFiles.increment();
+            return;
+        }
+        if (dryRun) {
+            // 지우지 않고 대상 건수/바이트만 집계
+            deletedFiles.increment();
+            reclaimedBytes.add(attrs.size());
+            log.info("업로드 파일 정리(dry-run) 대상 : {}", path);
+            return;
+        }
+
+        try {
+            String contentHash = blobHashOf(file);
+            boolean deleted = contentHash != null
+                    ? deleteBlob(file, contentHash, cutoff)
+                    : deleteIfOld(file, cutoff);
+            if (deleted) {
+                deletedFiles.increment();
+                reclaimedBytes.add(attrs.size());
+                log.debug("업로드 파일 정리 삭제 : {} ({}바이트)", path, attrs.size());
+            }
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("업로드 파일 정리 - 삭제 실패 : {} ({})", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 판정 후 중복 업로드로 수정 시각이 갱신됐으면 남긴다
+     */
+    private boolean deleteIfOld(Path file, long cutoff) throws IOException {
+        if (Files.getLastModifiedTime(file).toMillis() > cutoff) {
+            youngFiles.increment();
+            return false;
+        }
+        return Files.deleteIfExists(file);
+    }
+
+    /**
+     * blob 파일 삭제 - FILE_BLOB 행을 잠근 채 참조가 없을 때만 행과 파일을 함께 지운다
+     * - 행이 없으면(롤백된 첫 업로드 등) 빈 행을 넣어 잠그고, 같은 해시를 등록 중이면(키 중복) 남긴다.
+     * - 파일은 잠금을 쥔 트랜잭션 안에서 지우므로 같은 해시의 MERGE 는 커밋 뒤에야 진행된다.
+     *   잠금 전에 수정 시각을 갱신한 중복 업로드는 다시 본 수정 시각에, 그 뒤의 업로드는 MERGE 후 파일 확인에 드러난다.
+     */
+    private boolean deleteBlob(Path file, String contentHash, long cutoff) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Integer refCount = fileMapper.lockBlobRefCount(contentHash);
+                if (refCount == null) {
+                    fileMapper.insertBlobPlaceholder(contentHash, file.toString());
+                } else if (refCount > 0) {
+                    return false;
+                }
+                try {
+                    if (!deleteIfOld(file, cutoff)) {
+                        status.setRollbackOnly();
+                        return false;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                fileMapper.deleteUnreferencedBlob(contentHash);
+                return true;
+            }));
+        } catch (DuplicateKeyException e) {
+            // 같은 해시의 업로드가 먼저 행을 만들었다
+            return false;
+        }
+    }
+
+    /**
+     * blob 파일이면 파일명(내용 해시)을, 아니면 null 반환 (임시 파일 제외)
+     */
+    private static String blobHashOf(Path file) {
+        String name = file.getFileName().toString();
+        if (name.length() != 64 || !file.startsWith(Paths.get(FileUploadUtil.getBlobRoot()))) {
+            return null;
+        }
+        return FileUploadUtil.getBlobPath(name).equals(file) ? name : null;
+    }
+
+    /**
+     * 초당 검사 건수 제한 (앞서 나간 만큼 잠시 쉰다)
+     */
+    private void pace(long startedNanos, int scanned) throws InterruptedException {
+        long expectedNanos = TimeUnit.SECONDS.toNanos(scanned) / maxFilesPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedNanos);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+
+    private boolean isLive(String path) {
+        return Arrays.binarySearch(liveHashes, hash(path)) >= 0;
+    }
+
+    /**
+     * DB 경로를 디렉토리 순회 결과와 같은 형태로 정규화
+     */
+    private static String normalize(String path) {
+        try {
+            return Paths.get(path).normalize().toString();
+        } catch (RuntimeException e) {
+            return path;
+        }
+    }
+
+    /**
+     * 경로 64비트 해시 (FNV-1a + 비트 섞기)
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("dryRun", dryRun);
+        result.put("running", running.get());
+        result.put("graceHours", TimeUnit.MILLISECONDS.toHours(graceMs));
+        result.put("liveSetSize", liveSetSize);
+        result.put("lastMarkMs", lastMarkMs);
+        result.put("pendingDirectories", pendingDirectoryCount);
+        result.put("passes", passes.sum());
+        result.put("lastPassMs", lastPassMs);
+        result.put("scannedFiles", scannedFiles.sum());
+        result.put("youngFiles", youngFiles.sum());
+        result.put("deletedFiles", deletedFiles.sum());
+        result.put("reclaimedBytes", reclaimedBytes.sum());
+        result.put("failures", failures.sum());
+        result.put("lastError", lastError);
+        return result;
+    }
+}
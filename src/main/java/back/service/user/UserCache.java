@@ -0,0 +1,77 @@
+package back.service.user;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import back.mapper.user.UserMapper;
+import back.model.user.User;
+
+/**
+ * 사용자 조회 캐시 (userId 기준)
+ *
+ * - 인증(loadUserByUsername)과 회원정보 조회가 같은 사용자를 반복 조회하지 않도록 TTL 동안 보관한다.
+ * - 적중 시에는 잠금 없이 읽고, 같은 사용자에 대한 동시 미스는 한 번만 DB를 조회한다.
+ * - 회원정보 수정/탈퇴 시 명시적으로 무효화하며, 없는 사용자는 캐시하지 않는다.
+ */
+@Component
+public class UserCache {
+
+    @Autowired
+    private UserMapper userMapper;
+
+    private final Cache<String, User> cache;
+
+    public UserCache(@Value("${user.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${user.cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 사용자 조회 (없으면 null)
+     */
+    public User get(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        return cache.get(userId, userMapper::getUserById);
+    }
+
+    public void invalidate(String userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계 (적중률 등)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("loadCount", stats.loadCount());
+        result.put("averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000d);
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+}
@@ -1,13 +1,14 @@
 package back.service.user;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import back.exception.HException;
 import back.mapper.user.UserMapper;
 import back.model.user.User;
+import back.service.common.CachingAuthenticationProvider;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -18,7 +19,13 @@ public class UserServiceImpl implements UserService {
     private UserMapper userMapper;
     
     @Autowired
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CachingAuthenticationProvider cachingAuthenticationProvider;
+
+    @Autowired
+    private UserCache userCache;
     
     
     @Override
@@ -40,6 +47,8 @@ public class UserServiceImpl implements UserService {
             String password = user.getPassword();
             user.setPassword(password != null ? passwordEncoder.encode(password) : null);
             return userMapper.registerUser(user) > 0;
+        } catch (HException e) {
+            throw e;
         } catch (Exception e) {
             log.error("회원가입 중 오류", e);
             throw new HException("회원가입 실패", e);
@@ -53,6 +62,8 @@ public class UserServiceImpl implements UserService {
             if (dbUser == null) return false;
 
             return passwordEncoder.matches(user.getPassword(), dbUser.getPassword());
+        } catch (HException e) {
+            throw e;
         } catch (Exception e) {
             log.error("로그인 중 오류", e);
             throw new HException("로그인 중 오류", e);
@@ -62,7 +73,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public User getUserById(String userId) {
         try {
-            return userMapper.getUserById(userId);
+            return userCache.get(userId);
         } catch (Exception e) {
             log.error("사용자 조회 중 오류", e);
             throw new HException("사용자 조회 실패", e);
@@ -74,7 +85,13 @@ public class UserServiceImpl implements UserService {
         try {
         String password = user.getPassword();
         user.setPassword(password!=null ? passwordEncoder.encode(password):null);
-             return userMapper.updateUser(user) > 0;
+             boolean result = userMapper.updateUser(user) > 0;
+             // 비밀번호/회원정보가 바뀌었으므로 사용자/검증 캐시 제거
+             userCache.invalidate(user.getUserId());
+             cachingAuthenticationProvider.invalidate(user.getUserId());
+             return result;
+        } catch (HException e) {
+            throw e;
         } catch (Exception e) {
               log.error("사용자 수정 중 오류",e);
             throw new HException("사용자 수정 실패",e);
@@ -84,9 +101,10 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public boolean deleteUser(User user) {
 		try {
-	        String password = user.getPassword();
-	        user.setPassword(password!=null ? passwordEncoder.encode(password):null);
-	             return userMapper.deleteUser(user) > 0;
+	             boolean result = userMapper.deleteUser(user) > 0;
+	             userCache.invalidate(user.getUserId());
+	             cachingAuthenticationProvider.invalidate(user.getUserId());
+	             return result;
 	        } catch (Exception e) {
 	              log.error("사용자 탈퇴 중 오류",e);
 	            throw new HException("사용자 탈퇴 실패",e);
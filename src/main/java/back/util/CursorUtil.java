@@ -0,0 +1,42 @@
+package back.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import back.exception.HException;
+
+/**
+ * 커서(seek) 페이징용 불투명 토큰 인코딩/디코딩 유틸
+ *
+ * 클라이언트에는 마지막으로 본 ID를 직접 노출하지 않고 "접두어:ID" 를 Base64(URL-safe)로 감싼 값을 전달한다.
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = ":";
+
+    /**
+     * 마지막 ID를 커서 토큰으로 변환
+     */
+    public static String encode(String prefix, long lastId) {
+        String raw = prefix + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰에서 마지막 ID 추출 (빈 값이면 첫 페이지로 간주하여 null 반환)
+     */
+    public static Long decode(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(prefix + SEPARATOR)) {
+                throw new HException("잘못된 커서 값");
+            }
+            return Long.parseLong(raw.substring(prefix.length() + SEPARATOR.length()));
+        } catch (IllegalArgumentException e) {
+            throw new HException("잘못된 커서 값", e);
+        }
+    }
+}
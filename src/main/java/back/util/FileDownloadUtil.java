@@ -0,0 +1,274 @@
+package back.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 파일 다운로드 응답 처리 유틸
+ *
+ * - ETag / Last-Modified 발급 및 If-None-Match / If-Modified-Since 조건부 요청 시 304 응답
+ * - Range 요청(단일/다중) 처리로 이어받기, 탐색 재생 지원
+ * - 본문은 FileChannel.transferTo 로 전송하며, Tomcat sendfile 을 쓸 수 있으면 전송 자체를 커넥터에 맡긴다.
+ */
+public class FileDownloadUtil {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String MULTIPART_BOUNDARY = "RENEW_BACK_BYTERANGES";
+
+    /** 다중 Range 최대 개수 (초과 시 Range 를 무시하고 전체 전송) */
+    private static final int MAX_RANGES = 16;
+
+    /**
+     * 파일을 응답으로 전송
+     *
+     * @param etag 강한 ETag (null 이면 파일 크기와 수정 시각으로 생성)
+     * @param cacheControl Cache-Control 헤더 값
+     */
+    public static void sendFile(HttpServletRequest request, HttpServletResponse response, File file,
+            String contentType, String contentDisposition, String etag, String cacheControl) throws IOException {
+        sendFile(request, response, file, file.length(), file.lastModified(),
+                contentType, contentDisposition, etag, cacheControl);
+    }
+
+    /**
+     * 파일을 응답으로 전송 (크기/수정 시각을 이미 알고 있는 경우 - 메타데이터 캐시 사용 시 stat 호출 생략)
+     */
+    public static void sendFile(HttpServletRequest request, HttpServletResponse response, File file,
+            long length, long lastModifiedMillis, String contentType, String contentDisposition,
+            String etag, String cacheControl) throws IOException {
+        // HTTP 날짜는 초 단위이므로 밀리초는 버린다
+        long lastModified = lastModifiedMillis / 1000 * 1000;
+        if (etag == null) {
+            etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+        }
+
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setHeader("Cache-Control", cacheControl);
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        List<long[]> ranges = parseRanges(request, etag, lastModified, length);
+        if (ranges == null) {
+            response.setHeader("Content-Range", "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        response.setHeader("Content-Disposition", contentDisposition);
+        boolean head = "HEAD".equalsIgnoreCase(request.getMethod());
+
+        if (ranges.isEmpty()) {
+            response.setContentType(contentType);
+            response.setContentLengthLong(length);
+            if (!head) {
+                writeRange(request, response, file, 0, length);
+            }
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+
+        if (ranges.size() == 1) {
+            long[] range = ranges.get(0);
+            response.setContentType(contentType);
+            response.setHeader("Content-Range", "bytes " + range[0] + "-" + range[1] + "/" + length);
+            response.setContentLengthLong(range[1] - range[0] + 1);
+            if (!head) {
+                writeRange(request, response, file, range[0], range[1] - range[0] + 1);
+            }
+            return;
+        }
+
+        // 다중 Range : multipart/byteranges
+        List<byte[]> partHeaders = new ArrayList<>(ranges.size());
+        long contentLength = 0;
+        for (long[] range : ranges) {
+            String partHeader = "\r\n--" + MULTIPART_BOUNDARY + "\r\n"
+                    + "Content-Type: " + contentType + "\r\n"
+                    + "Content-Range: bytes " + range[0] + "-" + range[1] + "/" + length + "\r\n\r\n";
+            byte[] bytes = partHeader.getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(bytes);
+            contentLength += bytes.length + (range[1] - range[0] + 1);
+        }
+        byte[] closing = ("\r\n--" + MULTIPART_BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + MULTIPART_BOUNDARY);
+        response.setContentLengthLong(contentLength);
+        if (head) {
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            for (int i = 0; i < ranges.size(); i++) {
+                long[] range = ranges.get(i);
+                out.write(partHeaders.get(i));
+                transfer(channel, range[0], range[1] - range[0] + 1, target);
+            }
+        }
+        out.write(closing);
+        out.flush();
+    }
+
+    /**
+     * 연속 구간 전송 (Tomcat sendfile 지원 시 커넥터에 위임)
+     */
+    private static void writeRange(HttpServletRequest request, HttpServletResponse response, File file,
+            long start, long count) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+
+        OutputStream out = response.getOutputStream();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            transfer(channel, start, count, Channels.newChannel(out));
+        }
+        out.flush();
+    }
+
+    private static void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long written = channel.transferTo(position, remaining, target);
+            if (written <= 0) {
+                break;
+            }
+            position += written;
+            remaining -= written;
+        }
+    }
+
+    /**
+     * 조건부 요청 판별 (If-None-Match 가 있으면 If-Modified-Since 는 무시)
+     */
+    private static boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesEtag(ifNoneMatch, etag);
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * If-None-Match 헤더 값 중 일치하는 ETag 가 있는지 확인 (약한 비교)
+     */
+    public static boolean matchesEtag(String header, String etag) {
+        String target = stripWeak(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || stripWeak(value).equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    /**
+     * Range 헤더 해석
+     *
+     * @return 빈 목록이면 전체 전송, null 이면 만족할 수 없는 범위(416)
+     */
+    static List<long[]> parseRanges(HttpServletRequest request, String etag, long lastModified, long length) {
+        List<long[]> ranges = new ArrayList<>();
+        String header = request.getHeader("Range");
+        if (header == null || !header.startsWith("bytes=")) {
+            return ranges;
+        }
+
+        // If-Range 가 현재 버전과 다르면 Range 를 무시하고 전체 전송
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange != null) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                if (!ifRange.equals(etag)) {
+                    return ranges;
+                }
+            } else {
+                try {
+                    // 날짜는 Last-Modified 와 정확히 같아야 한다 (HTTP 날짜는 초 단위)
+                    if (request.getDateHeader("If-Range") / 1000 != lastModified / 1000) {
+                        return ranges;
+                    }
+                } catch (IllegalArgumentException e) {
+                    return ranges;
+                }
+            }
+        }
+
+        String[] specs = header.substring("bytes=".length()).split(",");
+        if (specs.length > MAX_RANGES) {
+            return ranges;
+        }
+        for (String spec : specs) {
+            String value = spec.trim();
+            int dash = value.indexOf('-');
+            if (dash < 0) {
+                return new ArrayList<>();
+            }
+            try {
+                long start;
+                long end;
+                if (dash == 0) {
+                    // 뒤에서부터 n 바이트
+                    long suffix = Long.parseLong(value.substring(1));
+                    if (suffix <= 0) {
+                        continue;
+                    }
+                    start = Math.max(length - suffix, 0);
+                    end = length - 1;
+                } else {
+                    start = Long.parseLong(value.substring(0, dash));
+                    String endValue = value.substring(dash + 1);
+                    end = endValue.isEmpty() ? length - 1 : Long.parseLong(endValue);
+                    if (end < start) {
+                        // 끝이 시작보다 앞인 범위는 형식 오류 - Range 전체를 무시하고 전체 전송
+                        return new ArrayList<>();
+                    }
+                    end = Math.min(end, length - 1);
+                }
+                if (start >= length) {
+                    continue;
+                }
+                ranges.add(new long[] { start, end });
+            } catch (NumberFormatException e) {
+                // 형식이 잘못된 Range 는 무시하고 전체 전송
+                return new ArrayList<>();
+            }
+        }
+        return ranges.isEmpty() ? null : ranges;
+    }
+}
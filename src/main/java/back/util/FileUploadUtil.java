@@ -2,10 +2,19 @@ package back.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 
 import org.springframework.web.multipart.MultipartFile;
@@ -14,16 +23,23 @@ import back.model.common.PostFile;
 
 public class FileUploadUtil {
     private static final String UPLOAD_DIR = "uploads"; // 최상위 업로드 디렉토리
+    private static final String BLOB_DIR = "blobs"; // 내용 주소 방식 blob 디렉토리
+    private static final String BLOB_TMP_DIR = "tmp"; // blob 쓰기용 임시 디렉토리
 
     /**
      * 다중 파일 업로드 처리
      */
     public static List<PostFile> uploadFiles(List<MultipartFile> multipartFiles, String basePath, int boardId, String userId) throws IOException {
-        List<PostFile> uploadedFiles = new ArrayList<>();
-        
         // yyyy-MM-dd 형식으로 단일 날짜 폴더 구성
         String dateFolder = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
-        String uploadPath = getUploadPath(basePath, dateFolder);
+        return uploadFilesTo(getUploadPath(basePath, dateFolder), multipartFiles, boardId, userId);
+    }
+
+    /**
+     * 지정한 폴더에 다중 파일 업로드 (벤치마크는 임시 폴더로 호출)
+     */
+    static List<PostFile> uploadFilesTo(String uploadPath, List<MultipartFile> multipartFiles, int boardId, String userId) throws IOException {
+        List<PostFile> uploadedFiles = new ArrayList<>();
 
         File uploadDir = new File(uploadPath);
         if (!uploadDir.exists()) {
@@ -36,7 +52,7 @@ public class FileUploadUtil {
             String originalFileName = Paths.get(file.getOriginalFilename()).getFileName().toString();
 
             if (!originalFileName.isEmpty()) {
-                String safeFileName = originalFileName.replaceAll("[^a-zA-Z0-9._-]", "_");
+                String safeFileName = sanitizeFileName(originalFileName);
 
                 String fileExtension = "";
                 int dotIndex = safeFileName.lastIndexOf(".");
@@ -67,6 +83,102 @@ public class FileUploadUtil {
         return uploadedFiles;
     }
 
+    /**
+     * 다중 파일 업로드 처리 (내용 주소 방식)
+     * - 임시 파일에 쓰면서 SHA-256 을 계산하고, 같은 내용의 blob 이 이미 있으면 임시 파일을 버린다.
+     * - blob 경로 : /uploads/blobs/{해시 앞 2자리}/{다음 2자리}/{해시}
+     */
+    public static List<PostFile> uploadFilesContentAddressed(List<MultipartFile> multipartFiles, int boardId, String userId) throws IOException {
+        List<PostFile> uploadedFiles = new ArrayList<>();
+
+        File tmpDir = new File(getBlobRoot(), BLOB_TMP_DIR);
+        if (!tmpDir.exists()) {
+            tmpDir.mkdirs();
+        }
+
+        for (MultipartFile file : multipartFiles) {
+            String originalFileName = Paths.get(file.getOriginalFilename()).getFileName().toString();
+
+            if (!originalFileName.isEmpty()) {
+                MessageDigest digest = newSha256();
+                Path tmpFile = Files.createTempFile(tmpDir.toPath(), "upload_", ".tmp");
+                long size;
+                try {
+                    try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                        size = Files.copy(in, tmpFile, StandardCopyOption.REPLACE_EXISTING);
+                    }
+
+                    String contentHash = HexFormat.of().formatHex(digest.digest());
+                    Path blob = getBlobPath(contentHash);
+
+                    // 중복 업로드 : 기존 blob 재사용 (수정 시각을 갱신해 정리 작업의 유예 기간 보호)
+                    // 확인 직후 정리 작업이 지워 갱신에 실패하면 새 내용처럼 임시 파일을 제자리에 옮긴다
+                    boolean reused = Files.exists(blob) && blob.toFile().setLastModified(System.currentTimeMillis());
+                    if (!reused) {
+                        Files.createDirectories(blob.getParent());
+                        try {
+                            Files.move(tmpFile, blob, StandardCopyOption.ATOMIC_MOVE);
+                        } catch (FileAlreadyExistsException e) {
+                            // 동시에 같은 내용이 올라온 경우 - 먼저 옮긴 쪽을 사용
+                        }
+                    }
+
+                    PostFile postFile = new PostFile();
+                    postFile.setBoardId(boardId);
+                    postFile.setCreateId(userId);
+                    postFile.setUpdateId(userId);
+                    postFile.setFileName(originalFileName);
+                    postFile.setFilePath(blob.toString()); // 공유 blob 전체 경로
+                    postFile.setContentHash(contentHash);
+                    postFile.setFileSize(size);
+                    postFile.setDelYn("N");
+
+                    uploadedFiles.add(postFile);
+                } finally {
+                    Files.deleteIfExists(tmpFile);
+                }
+            }
+        }
+
+        return uploadedFiles;
+    }
+
+    /**
+     * 저장 파일명에 쓸 수 없는 문자(영문/숫자/._- 외)를 '_' 로 치환
+     */
+    public static String sanitizeFileName(String fileName) {
+        return fileName.replaceAll("[^a-zA-Z0-9._-]", "_");
+    }
+
+    /**
+     * 업로드 최상위 경로 반환
+     */
+    public static String getUploadRoot() {
+        return File.separator + UPLOAD_DIR;
+    }
+
+    /**
+     * blob 최상위 경로 반환
+     */
+    public static String getBlobRoot() {
+        return getUploadRoot() + File.separator + BLOB_DIR;
+    }
+
+    /**
+     * 해시에 해당하는 blob 경로 반환
+     */
+    public static Path getBlobPath(String contentHash) {
+        return Paths.get(getBlobRoot(), contentHash.substring(0, 2), contentHash.substring(2, 4), contentHash);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * 업로드 경로 반환 (날짜 단일 폴더 포함)
      */
@@ -3,6 +3,8 @@ package back.util;
 
 
 import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import back.exception.HException;
 import back.model.common.CustomUserDetails;
@@ -23,4 +25,25 @@ public class SecurityUtil {
             throw new HException("권한 없음", HttpStatus.FORBIDDEN);
         }
     }
+
+    public static void checkAdmin(CustomUserDetails userDetails) {
+        checkAuthorization(userDetails);
+        if (!isAdmin(userDetails)) {
+            throw new HException("관리자 권한 필요", HttpStatus.FORBIDDEN);
+        }
+    }
+
+    public static boolean isAdmin(CustomUserDetails userDetails) {
+        return userDetails != null && "Y".equals(userDetails.getUser().getAdminYn());
+    }
+
+    /**
+     * 현재 요청의 인증 사용자가 관리자인지 확인 (Spring Security 필터 이후에서만 의미 있음)
+     */
+    public static boolean isCurrentUserAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails
+                && isAdmin(userDetails);
+    }
 }
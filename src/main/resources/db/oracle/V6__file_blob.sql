@@ -0,0 +1,18 @@
+-- 내용 주소 방식 첨부파일 저장소 (file.storage.mode=content)
+-- 같은 내용의 파일은 하나의 blob 으로 저장하고 POST_FILE 행은 CONTENT_HASH 로 blob 을 가리킨다.
+-- 저장 방식과 관계없이 필수 : 첨부파일 조회/등록 SQL 이 CONTENT_HASH 를, 보관(BoardArchiver)/업로드 정리 작업이 FILE_BLOB 을 항상 사용한다.
+--   (legacy 방식에서는 CONTENT_HASH 가 NULL 로 남고 FILE_BLOB 은 비어 있다)
+
+ALTER TABLE POST_FILE ADD (CONTENT_HASH VARCHAR2(64));
+
+CREATE INDEX IDX_POST_FILE_CONTENT_HASH ON POST_FILE (CONTENT_HASH);
+
+CREATE TABLE FILE_BLOB (
+    CONTENT_HASH VARCHAR2(64)   NOT NULL,  -- SHA-256 (hex)
+    FILE_PATH    VARCHAR2(500)  NOT NULL,  -- blob 전체 경로
+    FILE_SIZE    NUMBER(19)     NOT NULL,  -- 바이트 수
+    REF_COUNT    NUMBER(10)     DEFAULT 0 NOT NULL,  -- 살아있는 POST_FILE 참조 수
+    CREATE_DT    DATE           DEFAULT SYSDATE NOT NULL,
+    UPDATE_DT    DATE,
+    CONSTRAINT PK_FILE_BLOB PRIMARY KEY (CONTENT_HASH)
+);
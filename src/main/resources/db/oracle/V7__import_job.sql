@@ -0,0 +1,20 @@
+-- 게시물 일괄 가져오기(NDJSON) 작업 진행 상태
+-- 청크 INSERT 와 같은 트랜잭션에서 LAST_OFFSET 을 갱신하므로, 중단 후 재개 시 마지막 커밋 위치부터 이어서 읽는다.
+
+CREATE SEQUENCE SEQ_IMPORT_JOB;
+
+CREATE TABLE IMPORT_JOB (
+    JOB_ID         NUMBER(10)      NOT NULL,
+    FILE_NAME      VARCHAR2(255)   NOT NULL,  -- board.import.dir 기준 파일명
+    STATUS         VARCHAR2(20)    NOT NULL,  -- READY / RUNNING / DONE / FAILED
+    LAST_OFFSET    NUMBER(19)      DEFAULT 0 NOT NULL,  -- 마지막 커밋 청크의 끝 바이트 위치
+    LINE_COUNT     NUMBER(19)      DEFAULT 0 NOT NULL,  -- 커밋된 줄(게시글) 수
+    BOARD_COUNT    NUMBER(19)      DEFAULT 0 NOT NULL,
+    COMMENT_COUNT  NUMBER(19)      DEFAULT 0 NOT NULL,
+    ELAPSED_MS     NUMBER(19)      DEFAULT 0 NOT NULL,  -- 실행 시간 누계 (처리량 계산용)
+    ERROR_MESSAGE  VARCHAR2(1000),
+    CREATE_ID      VARCHAR2(50),
+    CREATE_DT      DATE            DEFAULT SYSDATE NOT NULL,
+    UPDATE_DT      DATE,
+    CONSTRAINT PK_IMPORT_JOB PRIMARY KEY (JOB_ID)
+);
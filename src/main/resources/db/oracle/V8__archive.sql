@@ -0,0 +1,20 @@
+-- 삭제(DEL_YN='Y') 후 보관 기간이 지난 행을 옮겨 두는 보관 테이블 (BoardArchiver)
+-- 원본과 같은 컬럼 순서 + ARCHIVE_DT, 인덱스는 PK 만 (옮긴 행만 원본에서 지우기 위한 확인용)
+-- 이동은 INSERT ... SELECT 원본.*, SYSDATE 이므로 원본 테이블에 컬럼을 추가하면 보관 테이블에도 같은 순서로 추가해야 한다.
+
+CREATE TABLE BOARD_ARCHIVE AS SELECT * FROM BOARD WHERE 1 = 0;
+ALTER TABLE BOARD_ARCHIVE ADD (ARCHIVE_DT DATE DEFAULT SYSDATE NOT NULL);
+ALTER TABLE BOARD_ARCHIVE ADD CONSTRAINT PK_BOARD_ARCHIVE PRIMARY KEY (BOARD_ID);
+
+CREATE TABLE POST_COMMENT_ARCHIVE AS SELECT * FROM POST_COMMENT WHERE 1 = 0;
+ALTER TABLE POST_COMMENT_ARCHIVE ADD (ARCHIVE_DT DATE DEFAULT SYSDATE NOT NULL);
+ALTER TABLE POST_COMMENT_ARCHIVE ADD CONSTRAINT PK_POST_COMMENT_ARCHIVE PRIMARY KEY (COMMENT_ID);
+
+CREATE TABLE POST_FILE_ARCHIVE AS SELECT * FROM POST_FILE WHERE 1 = 0;
+ALTER TABLE POST_FILE_ARCHIVE ADD (ARCHIVE_DT DATE DEFAULT SYSDATE NOT NULL);
+ALTER TABLE POST_FILE_ARCHIVE ADD CONSTRAINT PK_POST_FILE_ARCHIVE PRIMARY KEY (FILE_ID);
+
+-- 보관 대상 탐색용 함수 기반 인덱스 : 삭제된 행만 색인되므로(NULL 은 색인 안 됨) 크기가 작고 라이브 행 쓰기에 부담이 없다
+CREATE INDEX IDX_BOARD_DELETED ON BOARD (CASE WHEN DEL_YN = 'Y' THEN UPDATE_DT END);
+CREATE INDEX IDX_POST_COMMENT_DELETED ON POST_COMMENT (CASE WHEN DEL_YN = 'Y' THEN UPDATE_DT END);
+CREATE INDEX IDX_POST_FILE_DELETED ON POST_FILE (CASE WHEN DEL_YN = 'Y' THEN UPDATE_DT END);
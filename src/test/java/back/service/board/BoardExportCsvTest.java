@@ -0,0 +1,50 @@
+package back.service.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 게시물 내보내기 CSV 이스케이프 (RFC 4180 + Excel 수식 주입 방지)
+ */
+class BoardExportCsvTest {
+
+    private static String row(Object... values) throws IOException {
+        StringWriter writer = new StringWriter();
+        BoardExportServiceImpl.writeCsvRow(writer, values);
+        return writer.toString();
+    }
+
+    @Test
+    void plainValuesAreWrittenAsIs() throws IOException {
+        assertThat(row("board", 1L, "제목", null, "2024-01-01 00:00:00"))
+                .isEqualTo("board,1,제목,,2024-01-01 00:00:00\r\n");
+    }
+
+    @Test
+    void commaQuoteAndLineBreakAreQuoted() throws IOException {
+        assertThat(row("a,b")).isEqualTo("\"a,b\"\r\n");
+        assertThat(row("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"\r\n");
+        assertThat(row("line1\nline2")).isEqualTo("\"line1\nline2\"\r\n");
+        assertThat(row("line1\r\nline2")).isEqualTo("\"line1\r\nline2\"\r\n");
+    }
+
+    @Test
+    void formulaPrefixesAreNeutralized() throws IOException {
+        assertThat(row("=1+1")).isEqualTo("'=1+1\r\n");
+        assertThat(row("+82")).isEqualTo("'+82\r\n");
+        assertThat(row("-2")).isEqualTo("'-2\r\n");
+        assertThat(row("@SUM(A1)")).isEqualTo("'@SUM(A1)\r\n");
+        assertThat(row("\tcmd")).isEqualTo("'\tcmd\r\n");
+        assertThat(row("=HYPERLINK(\"x\",\"y\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\"\r\n");
+    }
+
+    @Test
+    void numbersAndEmbeddedOperatorsAreNotPrefixed() throws IOException {
+        assertThat(row(-1L, "a=b", "")).isEqualTo("-1,a=b,\r\n");
+        assertThat(BoardExportServiceImpl.neutralizeFormula("")).isEmpty();
+    }
+}
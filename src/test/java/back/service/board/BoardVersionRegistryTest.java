@@ -0,0 +1,107 @@
+package back.service.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import back.model.board.Board;
+
+/**
+ * BoardVersionRegistry ETag 발급 및 If-None-Match 판정
+ */
+class BoardVersionRegistryTest {
+
+    private final BoardVersionRegistry registry = new BoardVersionRegistry();
+
+    @Test
+    void matchesExactStrongAndWeakTags() {
+        String etag = registry.boardETag("1");
+
+        assertThat(BoardVersionRegistry.matches(etag, etag)).isTrue();
+        assertThat(BoardVersionRegistry.matches("W/" + etag, etag)).isTrue();
+        assertThat(BoardVersionRegistry.matches("\"other\"", etag)).isFalse();
+    }
+
+    @Test
+    void matchesAnyTagInList() {
+        String etag = registry.boardETag("1");
+
+        assertThat(BoardVersionRegistry.matches("\"a\", W/\"b\"," + etag, etag)).isTrue();
+        assertThat(BoardVersionRegistry.matches("\"a\" , \"b\"", etag)).isFalse();
+    }
+
+    @Test
+    void blankAndWildcardDoNotMatch() {
+        String etag = registry.boardETag("1");
+
+        assertThat(BoardVersionRegistry.matches(null, etag)).isFalse();
+        assertThat(BoardVersionRegistry.matches(" ", etag)).isFalse();
+        assertThat(BoardVersionRegistry.matches("*", etag)).isFalse();
+    }
+
+    @Test
+    void boardChangeBumpsBoardAndListTags() {
+        Board condition = new Board();
+        String board = registry.boardETag("1");
+        String other = registry.boardETag("2");
+        String list = registry.listETag(condition);
+
+        // 트랜잭션 밖에서는 즉시 반영
+        registry.boardChangedAfterCommit("1");
+
+        assertThat(registry.boardETag("1")).isNotEqualTo(board);
+        assertThat(registry.boardETag("2")).isEqualTo(other);
+        assertThat(registry.listETag(condition)).isNotEqualTo(list);
+    }
+
+    @Test
+    void commentChangeBumpsOnlyBoardTag() {
+        Board condition = new Board();
+        String board = registry.boardETag("1");
+        String list = registry.listETag(condition);
+
+        registry.commentChangedAfterCommit("1");
+
+        assertThat(registry.boardETag("1")).isNotEqualTo(board);
+        assertThat(registry.listETag(condition)).isEqualTo(list);
+    }
+
+    @Test
+    void deleteDropsEntryAndNeverReissuesOldTags() {
+        Board condition = new Board();
+        String untouched = registry.boardETag("1");
+        registry.boardChangedAfterCommit("2");
+        String changed = registry.boardETag("2");
+        String list = registry.listETag(condition);
+
+        registry.boardDeletedAfterCommit("2");
+
+        assertThat(registry.getStats()).containsEntry("trackedBoards", 0);
+        assertThat(registry.boardETag("2")).isNotEqualTo(changed);
+        assertThat(registry.boardETag("1")).isNotEqualTo(untouched);
+        assertThat(registry.listETag(condition)).isNotEqualTo(list);
+    }
+
+    @Test
+    void viewCountFlushBumpsListAndBoardTags() {
+        Board condition = new Board();
+        String board = registry.boardETag("1");
+        String list = registry.listETag(condition);
+
+        registry.viewCountsFlushed();
+
+        assertThat(registry.boardETag("1")).isNotEqualTo(board);
+        assertThat(registry.listETag(condition)).isNotEqualTo(list);
+    }
+
+    @Test
+    void listTagDependsOnConditions() {
+        Board first = new Board();
+        first.setSearchText("spring");
+        Board second = new Board();
+        second.setSearchText("oracle");
+
+        assertThat(registry.listETag(first)).isEqualTo(registry.listETag(first))
+                .isNotEqualTo(registry.listETag(second));
+    }
+}
@@ -0,0 +1,88 @@
+package back.service.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 가져오기 LineReader 의 줄 구분과 재개 위치(바이트 offset)
+ * - 재개 시 offset 만큼 건너뛰고 읽은 결과가 처음부터 읽은 결과의 나머지와 같아야 중복/누락 INSERT 가 없다.
+ */
+class ImportLineReaderTest {
+
+    private static final byte[] INPUT = ("\uFEFF{\"title\":\"첫 글\"}\r\n"
+            + "\r\n"
+            + "{\"title\":\"둘째\"}\n"
+            + "   \n"
+            + "{\"title\":\"셋째 ✓\"}\r\n"
+            + "{\"title\":\"마지막\"}").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void stripsCrlfAndLeadingBomAndKeepsBlankLines() throws IOException {
+        List<String> lines = readAll(new BoardImportServiceImpl.LineReader(new ByteArrayInputStream(INPUT), 0));
+
+        assertThat(lines).containsExactly("{\"title\":\"첫 글\"}", "", "{\"title\":\"둘째\"}", "   ",
+                "{\"title\":\"셋째 ✓\"}", "{\"title\":\"마지막\"}");
+    }
+
+    @Test
+    void offsetCountsBytesIncludingBomAndLineEndings() throws IOException {
+        BoardImportServiceImpl.LineReader reader = new BoardImportServiceImpl.LineReader(new ByteArrayInputStream(INPUT), 0);
+
+        reader.readLine();
+        int firstLineBytes = ("\uFEFF{\"title\":\"첫 글\"}\r\n").getBytes(StandardCharsets.UTF_8).length;
+        assertThat(reader.getOffset()).isEqualTo(firstLineBytes);
+
+        while (reader.readLine() != null) {
+            // 끝까지 읽기
+        }
+        assertThat(reader.getOffset()).isEqualTo(INPUT.length);
+    }
+
+    @Test
+    void resumingFromAnyLineOffsetYieldsTheRemainingLines() throws IOException {
+        BoardImportServiceImpl.LineReader full = new BoardImportServiceImpl.LineReader(new ByteArrayInputStream(INPUT), 0);
+        List<String> lines = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        String line;
+        while ((line = full.readLine()) != null) {
+            lines.add(line);
+            offsets.add(full.getOffset());
+        }
+
+        for (int i = 0; i < offsets.size(); i++) {
+            long offset = offsets.get(i);
+            InputStream in = new ByteArrayInputStream(INPUT);
+            in.skipNBytes(offset);
+            BoardImportServiceImpl.LineReader resumed = new BoardImportServiceImpl.LineReader(in, offset);
+
+            assertThat(readAll(resumed)).as("offset %d 부터 재개", offset)
+                    .containsExactlyElementsOf(lines.subList(i + 1, lines.size()));
+            assertThat(resumed.getOffset()).isEqualTo(INPUT.length);
+        }
+    }
+
+    @Test
+    void emptyInputHasNoLines() throws IOException {
+        BoardImportServiceImpl.LineReader reader = new BoardImportServiceImpl.LineReader(new ByteArrayInputStream(new byte[0]), 0);
+
+        assertThat(reader.readLine()).isNull();
+        assertThat(reader.getOffset()).isZero();
+    }
+
+    private static List<String> readAll(BoardImportServiceImpl.LineReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
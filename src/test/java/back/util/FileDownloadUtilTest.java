@@ -0,0 +1,154 @@
+package back.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * FileDownloadUtil Range / If-Range 해석 및 조건부 응답
+ */
+class FileDownloadUtilTest {
+
+    private static final String ETAG = "\"3e8-18f00000000\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+    private static final long LENGTH = 1000;
+
+    private static List<long[]> parse(String range) {
+        return parse(range, null);
+    }
+
+    private static List<long[]> parse(String range, String ifRange) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/file/down.do");
+        if (range != null) {
+            request.addHeader("Range", range);
+        }
+        if (ifRange != null) {
+            request.addHeader("If-Range", ifRange);
+        }
+        return FileDownloadUtil.parseRanges(request, ETAG, LAST_MODIFIED, LENGTH);
+    }
+
+    @Test
+    void noRangeHeaderSendsWholeFile() {
+        assertThat(parse(null)).isEmpty();
+        assertThat(parse("items=0-9")).isEmpty();
+    }
+
+    @Test
+    void singleRangeIsClampedToLength() {
+        assertThat(parse("bytes=0-99")).containsExactly(new long[] { 0, 99 });
+        assertThat(parse("bytes=900-")).containsExactly(new long[] { 900, 999 });
+        assertThat(parse("bytes=990-5000")).containsExactly(new long[] { 990, 999 });
+    }
+
+    @Test
+    void suffixRangeCountsFromEnd() {
+        assertThat(parse("bytes=-100")).containsExactly(new long[] { 900, 999 });
+        assertThat(parse("bytes=-5000")).containsExactly(new long[] { 0, 999 });
+    }
+
+    @Test
+    void multiRangeKeepsRequestOrder() {
+        assertThat(parse("bytes=0-9, 20-29,-5"))
+                .containsExactly(new long[] { 0, 9 }, new long[] { 20, 29 }, new long[] { 995, 999 });
+    }
+
+    @Test
+    void unsatisfiableRangesAreDroppedAndAllUnsatisfiableIs416() {
+        assertThat(parse("bytes=0-9,2000-3000")).containsExactly(new long[] { 0, 9 });
+        assertThat(parse("bytes=1000-1100")).isNull();
+        assertThat(parse("bytes=-0")).isNull();
+    }
+
+    @Test
+    void malformedOrTooManyRangesSendWholeFile() {
+        assertThat(parse("bytes=abc-def")).isEmpty();
+        assertThat(parse("bytes=5")).isEmpty();
+        assertThat(parse("bytes=50-10")).isEmpty();
+        assertThat(parse("bytes=0-9,50-10")).isEmpty();
+        assertThat(parse("bytes=" + "0-0,".repeat(16) + "0-0")).isEmpty();
+    }
+
+    @Test
+    void ifRangeWithCurrentEtagOrDateAppliesRange() {
+        assertThat(parse("bytes=0-9", ETAG)).containsExactly(new long[] { 0, 9 });
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/file/down.do");
+        request.addHeader("Range", "bytes=0-9");
+        request.addHeader("If-Range", LAST_MODIFIED);
+        assertThat(FileDownloadUtil.parseRanges(request, ETAG, LAST_MODIFIED, LENGTH))
+                .containsExactly(new long[] { 0, 9 });
+    }
+
+    @Test
+    void ifRangeWithOtherVersionSendsWholeFile() {
+        assertThat(parse("bytes=0-9", "\"other\"")).isEmpty();
+        // If-Range 는 강한 비교만 허용
+        assertThat(parse("bytes=0-9", "W/" + ETAG)).isEmpty();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/file/down.do");
+        request.addHeader("Range", "bytes=0-9");
+        request.addHeader("If-Range", LAST_MODIFIED - 60_000);
+        assertThat(FileDownloadUtil.parseRanges(request, ETAG, LAST_MODIFIED, LENGTH)).isEmpty();
+
+        // 날짜는 정확히 같아야 하므로 더 늦은 날짜도 전체 전송
+        request = new MockHttpServletRequest("GET", "/api/file/down.do");
+        request.addHeader("Range", "bytes=0-9");
+        request.addHeader("If-Range", LAST_MODIFIED + 60_000);
+        assertThat(FileDownloadUtil.parseRanges(request, ETAG, LAST_MODIFIED, LENGTH)).isEmpty();
+    }
+
+    @Test
+    void matchesEtagUsesWeakComparisonAndLists() {
+        assertThat(FileDownloadUtil.matchesEtag("W/" + ETAG, ETAG)).isTrue();
+        assertThat(FileDownloadUtil.matchesEtag("\"a\", " + ETAG, ETAG)).isTrue();
+        assertThat(FileDownloadUtil.matchesEtag("*", ETAG)).isTrue();
+        assertThat(FileDownloadUtil.matchesEtag("\"a\", \"b\"", ETAG)).isFalse();
+    }
+
+    @Test
+    void sendFileWritesMultipartByteranges(@TempDir Path dir) throws IOException {
+        File file = write(dir, "0123456789");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/file/down.do");
+        request.addHeader("Range", "bytes=0-1,-2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileDownloadUtil.sendFile(request, response, file, "text/plain", "attachment", null, "no-cache");
+
+        String body = response.getContentAsString(StandardCharsets.US_ASCII);
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges");
+        assertThat(body).contains("Content-Range: bytes 0-1/10\r\n\r\n01")
+                .contains("Content-Range: bytes 8-9/10\r\n\r\n89");
+        assertThat(response.getContentLengthLong()).isEqualTo(body.length());
+    }
+
+    @Test
+    void sendFileAnswers416WithContentRange(@TempDir Path dir) throws IOException {
+        File file = write(dir, "0123456789");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/file/down.do");
+        request.addHeader("Range", "bytes=50-60");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileDownloadUtil.sendFile(request, response, file, "text/plain", "attachment", null, "no-cache");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    private static File write(Path dir, String content) throws IOException {
+        Path path = dir.resolve("file.txt");
+        Files.writeString(path, content, StandardCharsets.US_ASCII);
+        return path.toFile();
+    }
+}